@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.core.merge.dql.orderby.OrderByValue;
+import org.apache.shardingsphere.core.merge.dql.orderby.OrderValuesComparator;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for merging ordered query results by stream.
+ * 
+ * <p>
+ * Compares binary heap merging, which polls and offers order by values for every row, with loser tree merging of {@code OrderByStreamMergedResult}.
+ * Run with {@code mvn -Pbenchmark package -pl sharding-benchmark -am -DskipTests} and {@code java -jar sharding-benchmark/target/benchmarks.jar OrderByStreamMergeBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderByStreamMergeBenchmark {
+    
+    private static final int ROW_COUNT_PER_INPUT = 64;
+    
+    @Param({"8", "64", "256", "1024"})
+    private int inputCount;
+    
+    private long[][] inputs;
+    
+    private Collection<OrderByItem> orderByItems;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(inputCount);
+        inputs = new long[inputCount][];
+        for (int i = 0; i < inputCount; i++) {
+            inputs[i] = new long[ROW_COUNT_PER_INPUT];
+            for (int j = 0; j < ROW_COUNT_PER_INPUT; j++) {
+                inputs[i][j] = random.nextInt(1000000);
+            }
+            Arrays.sort(inputs[i]);
+        }
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        orderByItems = Collections.singletonList(orderByItem);
+    }
+    
+    /**
+     * Merge by binary heap.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void priorityQueue(final Blackhole blackhole) throws SQLException {
+        OrderValuesComparator comparator = new OrderValuesComparator(orderByItems);
+        PriorityQueue<OrderByValue> queue = new PriorityQueue<>(inputCount);
+        for (QueryResult each : createQueryResults()) {
+            OrderByValue orderByValue = new OrderByValue(each, comparator);
+            if (orderByValue.next()) {
+                queue.offer(orderByValue);
+            }
+        }
+        while (!queue.isEmpty()) {
+            OrderByValue orderByValue = queue.poll();
+            blackhole.consume(orderByValue.getQueryResult().getValue(1, Object.class));
+            if (orderByValue.next()) {
+                queue.offer(orderByValue);
+            }
+        }
+    }
+    
+    /**
+     * Merge by loser tree.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void loserTree(final Blackhole blackhole) throws SQLException {
+        OrderByStreamMergedResult mergedResult = new OrderByStreamMergedResult(createQueryResults(), orderByItems);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        List<QueryResult> result = new ArrayList<>(inputCount);
+        for (long[] each : inputs) {
+            result.add(new LongArrayQueryResult(each));
+        }
+        return result;
+    }
+    
+    private static final class LongArrayQueryResult implements QueryResult {
+        
+        private final long[] values;
+        
+        private int cursor = -1;
+        
+        LongArrayQueryResult(final long[] values) {
+            this.values = values;
+        }
+        
+        @Override
+        public boolean next() {
+            return ++cursor < values.length;
+        }
+        
+        @Override
+        public int getColumnCount() {
+            return 1;
+        }
+        
+        @Override
+        public String getColumnLabel(final int columnIndex) {
+            return "order_id";
+        }
+        
+        @Override
+        public Object getValue(final int columnIndex, final Class<?> type) {
+            return values[cursor];
+        }
+        
+        @Override
+        public Object getValue(final String columnLabel, final Class<?> type) {
+            return values[cursor];
+        }
+        
+        @Override
+        public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+            return values[cursor];
+        }
+        
+        @Override
+        public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+            return values[cursor];
+        }
+        
+        @Override
+        public InputStream getInputStream(final int columnIndex, final String type) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public InputStream getInputStream(final String columnLabel, final String type) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public boolean wasNull() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.core.parse.constant.QuoteCharacter;
+import org.apache.shardingsphere.core.rewrite.builder.SQLBuilder;
+import org.apache.shardingsphere.core.rewrite.token.pojo.Alterable;
+import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.Substitutable;
+import org.apache.shardingsphere.core.rewrite.token.pojo.TableToken;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for building rewritten SQL of every routing unit.
+ *
+ * <p>
+ * Logic SQL is a batched insert whose every row references logic table, so every row generates one table token.
+ * Compares previous building which looks up index of every token in linked list, with {@code SQLBuilder}.
+ * Run with {@code mvn -Pbenchmark package -pl sharding-benchmark -am -DskipTests} and {@code java -jar sharding-benchmark/target/benchmarks.jar SQLBuilderBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLBuilderBenchmark {
+    
+    private static final int ROUTING_UNIT_COUNT = 16;
+    
+    @Param({"100", "1000", "5000"})
+    private int rowCount;
+    
+    private String logicSQL;
+    
+    private List<SQLToken> sqlTokens;
+    
+    private List<Map<String, String>> logicAndActualTables;
+    
+    @Setup
+    public void setUp() {
+        StringBuilder sql = new StringBuilder("INSERT INTO t_order (order_id, user_id, status) ");
+        sqlTokens = new LinkedList<>();
+        sqlTokens.add(new TableToken(12, 18, "t_order", QuoteCharacter.NONE));
+        for (int i = 0; i < rowCount; i++) {
+            sql.append(0 == i ? "SELECT " : " UNION ALL SELECT ").append(i).append(", ").append(i % 100).append(", status FROM ");
+            sqlTokens.add(new TableToken(sql.length(), sql.length() + 6, "t_order", QuoteCharacter.NONE));
+            sql.append("t_order WHERE order_id = ").append(i);
+        }
+        logicSQL = sql.toString();
+        logicAndActualTables = new ArrayList<>(ROUTING_UNIT_COUNT);
+        for (int i = 0; i < ROUTING_UNIT_COUNT; i++) {
+            logicAndActualTables.add(Collections.singletonMap("t_order", "t_order_" + i));
+        }
+    }
+    
+    /**
+     * Build SQL by looking up index of every token.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void indexOfTokens(final Blackhole blackhole) {
+        for (Map<String, String> each : logicAndActualTables) {
+            blackhole.consume(toSQLByIndexOfTokens(each));
+        }
+    }
+    
+    /**
+     * Build SQL by precomputed literal offsets.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void sqlBuilder(final Blackhole blackhole) {
+        SQLBuilder sqlBuilder = new SQLBuilder(logicSQL, new ArrayList<>(sqlTokens));
+        for (Map<String, String> each : logicAndActualTables) {
+            blackhole.consume(sqlBuilder.toSQL(null, each));
+        }
+    }
+    
+    private String toSQLByIndexOfTokens(final Map<String, String> logicAndActualTables) {
+        StringBuilder result = new StringBuilder();
+        result.append(logicSQL.substring(0, sqlTokens.get(0).getStartIndex()));
+        for (SQLToken each : sqlTokens) {
+            result.append(each instanceof Alterable ? ((Alterable) each).toString((RoutingUnit) null, logicAndActualTables) : each.toString());
+            int currentSQLTokenIndex = sqlTokens.indexOf(each);
+            int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? logicSQL.length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
+            int startIndex = each instanceof Substitutable ? ((Substitutable) each).getStopIndex() + 1 : each.getStartIndex();
+            result.append(logicSQL.substring(Math.min(startIndex, logicSQL.length()), stopIndex));
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.route;
+
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.strategy.route.inline.CompiledInlineShardingExpression;
+import org.apache.shardingsphere.core.strategy.route.inline.GroovyInlineShardingExpression;
+import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingExpression;
+import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for evaluating inline sharding algorithm expression.
+ * 
+ * <p>
+ * Run with {@code mvn -Pbenchmark package -pl sharding-benchmark -am -DskipTests} and {@code java -jar sharding-benchmark/target/benchmarks.jar InlineShardingStrategyBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InlineShardingStrategyBenchmark {
+    
+    private static final String SHARDING_COLUMN = "order_id";
+    
+    @Param({"t_order_${order_id % 16}", "t_order_${order_id.hashCode() % 16}"})
+    private String algorithmExpression;
+    
+    @Param({"1", "32"})
+    private int valueCount;
+    
+    private InlineShardingExpression groovyExpression;
+    
+    private InlineShardingExpression compiledExpression;
+    
+    private InlineShardingStrategy strategy;
+    
+    private List<Comparable<?>> values;
+    
+    private Collection<String> availableTargetNames;
+    
+    private Collection<RouteValue> routeValues;
+    
+    @Setup
+    public void setUp() {
+        groovyExpression = new GroovyInlineShardingExpression(algorithmExpression);
+        compiledExpression = CompiledInlineShardingExpression.compile(algorithmExpression).get();
+        strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration(SHARDING_COLUMN, algorithmExpression));
+        values = new ArrayList<>(valueCount);
+        for (long i = 0; i < valueCount; i++) {
+            values.add(i * 7919L);
+        }
+        availableTargetNames = new ArrayList<>(16);
+        for (int i = 0; i < 16; i++) {
+            availableTargetNames.add("t_order_" + i);
+        }
+        routeValues = Collections.<RouteValue>singletonList(new ListRouteValue<>(SHARDING_COLUMN, "t_order", values));
+    }
+    
+    /**
+     * Evaluate by groovy closure.
+     * 
+     * @return target names
+     */
+    @Benchmark
+    public Collection<String> groovy() {
+        return evaluate(groovyExpression);
+    }
+    
+    /**
+     * Evaluate by compiled expression.
+     * 
+     * @return target names
+     */
+    @Benchmark
+    public Collection<String> compiled() {
+        return evaluate(compiledExpression);
+    }
+    
+    /**
+     * Evaluate by inline sharding strategy, which caches targets of sharding values.
+     * 
+     * @return target names
+     */
+    @Benchmark
+    public Collection<String> strategy() {
+        return strategy.doSharding(availableTargetNames, routeValues);
+    }
+    
+    private Collection<String> evaluate(final InlineShardingExpression expression) {
+        Collection<String> result = new ArrayList<>(values.size());
+        for (Comparable<?> each : values) {
+            result.add(expression.evaluate(SHARDING_COLUMN, each));
+        }
+        return result;
+    }
+}
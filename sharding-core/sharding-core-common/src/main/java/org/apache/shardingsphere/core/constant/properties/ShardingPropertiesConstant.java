@@ -75,16 +75,64 @@ public enum ShardingPropertiesConstant {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Max count of tasks waiting for worker threads.
+     *
+     * <p>
+     * Only works if executor size is not infinite, tasks out of this bound are handled by rejected policy.
+     * Default: 0, means infinite.
+     * </p>
+     */
+    EXECUTOR_QUEUE_SIZE("executor.queue.size", String.valueOf(0), int.class),
+    
+    /**
+     * Policy of tasks rejected by executor.
+     *
+     * <p>
+     * CALLER_RUNS: execute rejected task in caller thread, which slows down new queries as back pressure, tasks submitted after executor is closed are still rejected by exception.
+     * ABORT: fail fast with rejected execution exception.
+     * Default: CALLER_RUNS
+     * </p>
+     */
+    EXECUTOR_REJECTED_POLICY("executor.rejected.policy", "CALLER_RUNS", String.class),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Enable or Disable to limit connections of queries by connection budget of data source.
+     *
+     * <p>
+     * Every data source has a budget as large as its max pool size, connections held by statements are taken from the budget.
+     * If budget left is less than max connections size per query, query uses less connections and switches to connection strictly mode instead of waiting for pool.
+     * Data sources without known max pool size are not limited.
+     * Default: false
+     * </p>
+     */
+    CONNECTION_BUDGET_ENABLED("connection.budget.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Size of connections of every data source reserved from connection budget.
+     */
+    CONNECTION_BUDGET_RESERVED_SIZE("connection.budget.reserved.size", String.valueOf(0), int.class),
+    
     /**
      * Sharding-Proxy's flush threshold for every records from databases.
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
     
+    /**
+     * Max count of binary prepared statements of every connection for Sharding-Proxy.
+     *
+     * <p>
+     * Least recently used statement is evicted if exceeded, statements leaked by clients never closing them are bounded.
+     * Default: 1024
+     * </p>
+     */
+    PROXY_FRONTEND_MAX_PREPARED_STATEMENTS("proxy.frontend.max.prepared.statements", String.valueOf(1024), int.class),
+    
     /**
      * Transaction type of proxy.
      *
@@ -114,7 +162,102 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    /**
+     * Enable or Disable to relay raw rows of backend MySQL to client for Sharding-Proxy.
+     *
+     * <p>
+     * Only text protocol select which is routed to one data source and need not decrypt is relayed,
+     * every cell is written as bytes read from backend without decoding and re-encoding.
+     * Rows are relayed only if charset of client equals charset of results configured in JDBC URL of data source.
+     * It is a partial implementation, backend is still queried by JDBC instead of native protocol.
+     * </p>
+     */
+    PROXY_BACKEND_ROW_PASS_THROUGH_ENABLED("proxy.backend.row.pass.through.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable to cache parsing result by SQL shape.
+     *
+     * <p>
+     * SQLs which only different with literals share one abstract syntax tree, parser will be skipped if SQL shape cache hit.
+     * Default: false
+     * </p>
+     */
+    SQL_SHAPE_CACHE_ENABLED("sql.shape.cache.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Storage type of parsing result cache.
+     *
+     * <p>
+     * BOUNDED: size bounded storage which evict least recently used SQL statements.
+     * SOFT_REFERENCE: unbounded storage which only cleared by garbage collector.
+     * Default: BOUNDED
+     * </p>
+     */
+    PARSING_RESULT_CACHE_TYPE("parsing.result.cache.type", "BOUNDED", String.class),
+    
+    /**
+     * Max count of SQL statements in parsing result cache.
+     */
+    PARSING_RESULT_CACHE_MAX_SIZE("parsing.result.cache.max.size", String.valueOf(65535), long.class),
+    
+    /**
+     * Max total length of SQLs in parsing result cache, max size will be ignored if it is positive.
+     */
+    PARSING_RESULT_CACHE_MAX_WEIGHT("parsing.result.cache.max.weight", String.valueOf(0), long.class),
+    
+    /**
+     * File path of SQLs to warm up parsing result cache when startup, one SQL per line.
+     */
+    PARSING_RESULT_CACHE_WARM_UP_FILE("parsing.result.cache.warm.up.file", "", String.class),
+    
+    /**
+     * Max count of groups kept in memory for group by memory merging.
+     *
+     * <p>
+     * Rows of groups out of this budget are hash spilled into temporary files and merged back in sorted order.
+     * Default: 0, means unlimited and never spill.
+     * </p>
+     */
+    GROUP_BY_MERGE_MAX_MEMORY_ROWS("group.by.merge.max.memory.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Directory of temporary files for group by memory merging spilling.
+     */
+    GROUP_BY_MERGE_SPILL_DIRECTORY("group.by.merge.spill.directory", System.getProperty("java.io.tmpdir"), String.class),
+    
+    /**
+     * Min offset to query deep pages by seek pagination.
+     *
+     * <p>
+     * Deep pages ordered by generated key of single table are queried by probing boundary of every shard,
+     * and then querying narrowed key range instead of fetching offset plus row count rows from every shard.
+     * Default: 0, means seek pagination is disabled.
+     * </p>
+     */
+    SEEK_PAGINATION_MIN_OFFSET("seek.pagination.min.offset", String.valueOf(0), int.class),
+    
+    /**
+     * Max memory bytes of every query result loaded in memory in connection strictly mode.
+     *
+     * <p>
+     * Query result stops loading rows when its estimated memory size exceeds this budget, and reads rest rows by streaming.
+     * Default: 0, means unlimited.
+     * </p>
+     */
+    MEMORY_QUERY_RESULT_MAX_BYTES("memory.query.result.max.bytes", String.valueOf(0), long.class),
+    
+    /**
+     * Max rows of multiple values insert merged from batched single row inserts.
+     *
+     * <p>
+     * Rows of batched single row insert which are routed to same data source and table are merged into multiple values insert,
+     * update count of every row is 1 if all merged rows are inserted, otherwise success no info.
+     * Default: 0, means batched rows are never merged.
+     * </p>
+     */
+    BATCH_INSERT_MERGE_MAX_ROWS("batch.insert.merge.max.rows", String.valueOf(0), int.class);
     
     private final String key;
     
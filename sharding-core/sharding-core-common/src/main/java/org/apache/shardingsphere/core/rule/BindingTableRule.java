@@ -47,7 +47,7 @@ public final class BindingTableRule {
      */
     public boolean hasLogicTable(final String logicTableName) {
         for (TableRule each : tableRules) {
-            if (each.getLogicTable().equals(logicTableName.toLowerCase())) {
+            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
                 return true;
             }
         }
@@ -74,7 +74,7 @@ public final class BindingTableRule {
             throw new ShardingConfigurationException("Actual table [%s].[%s] is not in table config", dataSource, otherActualTable);
         }
         for (TableRule each : tableRules) {
-            if (each.getLogicTable().equals(logicTable.toLowerCase())) {
+            if (each.getLogicTable().equalsIgnoreCase(logicTable)) {
                 return each.getActualDataNodes().get(index).getTableName().toLowerCase();
             }
         }
@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.encryptor.EncryptRuleConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
@@ -38,8 +39,13 @@ import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -72,14 +78,34 @@ public class ShardingRule implements BaseRule {
     
     private final EncryptRule encryptRule;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> actualAndLogicTableNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Set<String> lowerCaseBroadcastTables;
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkArgument(null != shardingRuleConfig, "ShardingRuleConfig cannot be null.");
         Preconditions.checkArgument(null != dataSourceNames && !dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.shardingRuleConfig = shardingRuleConfig;
         shardingDataSourceNames = new ShardingDataSourceNames(shardingRuleConfig, dataSourceNames);
         tableRules = createTableRules(shardingRuleConfig);
-        bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
+        logicTableRules = createLogicTableRules(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
+        actualAndLogicTableNames = createActualAndLogicTableNames(tableRules);
         broadcastTables = shardingRuleConfig.getBroadcastTables();
+        lowerCaseBroadcastTables = createLowerCaseBroadcastTables(broadcastTables);
+        bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
+        logicTableBindingTableRules = createLogicTableBindingTableRules(bindingTableRules);
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
         defaultTableShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
         defaultShardingKeyGenerator = createDefaultKeyGenerator(shardingRuleConfig.getDefaultKeyGeneratorConfig());
@@ -96,6 +122,69 @@ public class ShardingRule implements BaseRule {
         return result;
     }
     
+    private Map<String, TableRule> createLogicTableRules(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            if (!result.containsKey(each.getLogicTable())) {
+                result.put(each.getLogicTable(), each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, TableRule> createActualTableRules(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (String actualTableName : getActualTableNames(each)) {
+                if (!result.containsKey(actualTableName)) {
+                    result.put(actualTableName, each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<String>> createActualAndLogicTableNames(final Collection<TableRule> tableRules) {
+        Map<String, Collection<String>> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (String actualTableName : getActualTableNames(each)) {
+                if (!result.containsKey(actualTableName)) {
+                    result.put(actualTableName, new LinkedList<String>());
+                }
+                result.get(actualTableName).add(each.getLogicTable());
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> getActualTableNames(final TableRule tableRule) {
+        Collection<String> result = new LinkedHashSet<>(tableRule.getActualDataNodes().size(), 1);
+        for (DataNode each : tableRule.getActualDataNodes()) {
+            result.add(each.getTableName());
+        }
+        return result;
+    }
+    
+    private Set<String> createLowerCaseBroadcastTables(final Collection<String> broadcastTables) {
+        Set<String> result = new HashSet<>(broadcastTables.size(), 1);
+        for (String each : broadcastTables) {
+            result.add(each.toLowerCase());
+        }
+        return result;
+    }
+    
+    private Map<String, BindingTableRule> createLogicTableBindingTableRules(final Collection<BindingTableRule> bindingTableRules) {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (TableRule tableRule : each.getTableRules()) {
+                if (!result.containsKey(tableRule.getLogicTable())) {
+                    result.put(tableRule.getLogicTable(), each);
+                }
+            }
+        }
+        return result;
+    }
+    
     private String getDefaultGenerateKeyColumn(final ShardingRuleConfiguration shardingRuleConfig) {
         return null == shardingRuleConfig.getDefaultKeyGeneratorConfig() ? null : shardingRuleConfig.getDefaultKeyGeneratorConfig().getColumn();
     }
@@ -149,12 +238,15 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
-                return Optional.of(each);
-            }
+        return Optional.fromNullable(getIgnoreCase(logicTableRules, logicTableName));
+    }
+    
+    private <T> T getIgnoreCase(final Map<String, T> lowerCaseIndex, final String name) {
+        if (null == name) {
+            return null;
         }
-        return Optional.absent();
+        T result = lowerCaseIndex.get(name);
+        return null == result ? lowerCaseIndex.get(name.toLowerCase()) : result;
     }
     
     /**
@@ -164,12 +256,7 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(null == actualTableName ? null : actualTableRules.get(actualTableName));
     }
     
     /**
@@ -256,12 +343,7 @@ public class ShardingRule implements BaseRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(getIgnoreCase(logicTableBindingTableRules, logicTableName));
     }
     
     /**
@@ -289,12 +371,7 @@ public class ShardingRule implements BaseRule {
      * @return logic table is belong to broadcast tables or not
      */
     public boolean isBroadcastTable(final String logicTableName) {
-        for (String each : broadcastTables) {
-            if (each.equalsIgnoreCase(logicTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return null != logicTableName && (lowerCaseBroadcastTables.contains(logicTableName) || lowerCaseBroadcastTables.contains(logicTableName.toLowerCase()));
     }
     
     /**
@@ -320,12 +397,8 @@ public class ShardingRule implements BaseRule {
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName)) {
-                return true;
-            }
-        }
-        return false;
+        Optional<TableRule> tableRule = findTableRule(tableName);
+        return tableRule.isPresent() && isShardingColumn(tableRule.get(), columnName);
     }
     
     private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
@@ -339,12 +412,8 @@ public class ShardingRule implements BaseRule {
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName) && null != each.getGenerateKeyColumn()) {
-                return Optional.of(each.getGenerateKeyColumn());
-            }
-        }
-        return Optional.absent();
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        return tableRule.isPresent() ? Optional.fromNullable(tableRule.get().getGenerateKeyColumn()) : Optional.<String>absent();
     }
     
     /**
@@ -369,13 +438,8 @@ public class ShardingRule implements BaseRule {
      * @return logic table name
      */
     public Collection<String> getLogicTableNames(final String actualTableName) {
-        Collection<String> result = new LinkedList<>();
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                result.add(each.getLogicTable());
-            }
-        }
-        return result;
+        Collection<String> logicTableNames = null == actualTableName ? null : actualAndLogicTableNames.get(actualTableName);
+        return null == logicTableNames ? new LinkedList<String>() : new LinkedList<>(logicTableNames);
     }
     
     /**
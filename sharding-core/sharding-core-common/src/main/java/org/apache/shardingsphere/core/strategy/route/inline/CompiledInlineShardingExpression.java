@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline sharding expression compiled to java.
+ * 
+ * <p>
+ * Support forms of ${column}, ${column % n} and ${column.hashCode() % n} with plain literals between placeholders,
+ * value types or column names which compiled form cannot evaluate as same as groovy fall back to groovy closure.
+ * </p>
+ */
+public final class CompiledInlineShardingExpression implements InlineShardingExpression {
+    
+    private static final String CLOSURE_PARAMETER = "it";
+    
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\$\\{([^}]*)}");
+    
+    private static final Pattern COLUMN_PATTERN = Pattern.compile("\\s*(\\w+)\\s*");
+    
+    private static final Pattern MODULO_PATTERN = Pattern.compile("\\s*(\\w+)\\s*%\\s*([1-9]\\d{0,8})\\s*");
+    
+    private static final Pattern HASH_CODE_MODULO_PATTERN = Pattern.compile("\\s*(\\w+)\\s*\\.\\s*hashCode\\s*\\(\\s*\\)\\s*%\\s*([1-9]\\d{0,8})\\s*");
+    
+    private final String columnName;
+    
+    private final List<String> literals;
+    
+    private final List<Placeholder> placeholders;
+    
+    private final InlineShardingExpression fallbackExpression;
+    
+    private CompiledInlineShardingExpression(final String columnName, final List<String> literals, final List<Placeholder> placeholders, final String algorithmExpression) {
+        this.columnName = columnName;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        fallbackExpression = new GroovyInlineShardingExpression(algorithmExpression);
+    }
+    
+    /**
+     * Compile algorithm expression.
+     * 
+     * @param algorithmExpression algorithm expression
+     * @return compiled inline sharding expression, absent if algorithm expression is not supported
+     */
+    public static Optional<CompiledInlineShardingExpression> compile(final String algorithmExpression) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        String columnName = null;
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(algorithmExpression);
+        int literalStartIndex = 0;
+        while (matcher.find()) {
+            Optional<Placeholder> placeholder = compilePlaceholder(matcher.group(1));
+            if (!placeholder.isPresent() || null != columnName && !columnName.equals(placeholder.get().columnName)) {
+                return Optional.absent();
+            }
+            columnName = placeholder.get().columnName;
+            literals.add(algorithmExpression.substring(literalStartIndex, matcher.start()));
+            placeholders.add(placeholder.get());
+            literalStartIndex = matcher.end();
+        }
+        literals.add(algorithmExpression.substring(literalStartIndex));
+        if (null == columnName || CLOSURE_PARAMETER.equals(columnName) || !isPlainLiterals(literals)) {
+            return Optional.absent();
+        }
+        return Optional.of(new CompiledInlineShardingExpression(columnName, literals, placeholders, algorithmExpression));
+    }
+    
+    private static Optional<Placeholder> compilePlaceholder(final String placeholder) {
+        Matcher matcher = COLUMN_PATTERN.matcher(placeholder);
+        if (matcher.matches()) {
+            return Optional.of(new Placeholder(matcher.group(1), false, 0));
+        }
+        matcher = MODULO_PATTERN.matcher(placeholder);
+        if (matcher.matches()) {
+            return Optional.of(new Placeholder(matcher.group(1), false, Integer.parseInt(matcher.group(2))));
+        }
+        matcher = HASH_CODE_MODULO_PATTERN.matcher(placeholder);
+        if (matcher.matches()) {
+            return Optional.of(new Placeholder(matcher.group(1), true, Integer.parseInt(matcher.group(2))));
+        }
+        return Optional.absent();
+    }
+    
+    private static boolean isPlainLiterals(final List<String> literals) {
+        for (String each : literals) {
+            if (each.contains("$") || each.contains("\\") || each.contains("\"")) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public String evaluate(final String columnName, final Comparable<?> value) {
+        if (!this.columnName.equals(columnName)) {
+            return fallbackExpression.evaluate(columnName, value);
+        }
+        StringBuilder result = new StringBuilder(literals.get(0));
+        for (int i = 0; i < placeholders.size(); i++) {
+            Optional<String> placeholderValue = placeholders.get(i).evaluate(value);
+            if (!placeholderValue.isPresent()) {
+                return fallbackExpression.evaluate(columnName, value);
+            }
+            result.append(placeholderValue.get()).append(literals.get(i + 1));
+        }
+        return result.toString();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Placeholder {
+        
+        private final String columnName;
+        
+        private final boolean hashCode;
+        
+        private final int modulus;
+        
+        private Optional<String> evaluate(final Comparable<?> value) {
+            if (hashCode) {
+                return Optional.of(String.valueOf(value.hashCode() % modulus));
+            }
+            if (0 == modulus) {
+                return value instanceof String || isIntegral(value) ? Optional.of(value.toString()) : Optional.<String>absent();
+            }
+            if (value instanceof Long) {
+                return Optional.of(String.valueOf((Long) value % modulus));
+            }
+            return isIntegral(value) ? Optional.of(String.valueOf(((Number) value).intValue() % modulus)) : Optional.<String>absent();
+        }
+        
+        private boolean isIntegral(final Comparable<?> value) {
+            return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+        }
+    }
+}
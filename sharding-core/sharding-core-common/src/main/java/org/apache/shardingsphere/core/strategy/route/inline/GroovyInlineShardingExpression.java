@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.core.util.InlineExpressionParser;
+
+/**
+ * Inline sharding expression evaluated by groovy closure.
+ */
+public final class GroovyInlineShardingExpression implements InlineShardingExpression {
+    
+    private final Closure<?> closure;
+    
+    public GroovyInlineShardingExpression(final String algorithmExpression) {
+        closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+    }
+    
+    @Override
+    public String evaluate(final String columnName, final Comparable<?> value) {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty(columnName, value);
+        return result.call().toString();
+    }
+}
@@ -17,73 +17,81 @@
 
 package org.apache.shardingsphere.core.strategy.route.inline;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
-import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.apache.shardingsphere.core.util.InlineExpressionParser;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Standard sharding strategy.
+ * Inline sharding strategy.
+ * 
+ * <p>
+ * Targets of low cardinality sharding values are cached, algorithm expression is compiled to java when possible and evaluated by groovy otherwise.
+ * </p>
  * 
  * @author zhangliang
  */
 public final class InlineShardingStrategy implements ShardingStrategy {
     
+    private static final int MAX_CACHED_TARGET_SIZE = 1024;
+    
     private final String shardingColumn;
     
-    private final Closure<?> closure;
+    private final InlineShardingExpression expression;
+    
+    private final Map<Comparable<?>, String> cachedTargets = new ConcurrentHashMap<>();
     
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
         String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
-        closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        Optional<CompiledInlineShardingExpression> compiledExpression = CompiledInlineShardingExpression.compile(algorithmExpression);
+        expression = compiledExpression.isPresent() ? compiledExpression.get() : new GroovyInlineShardingExpression(algorithmExpression);
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues) {
         RouteValue shardingValue = shardingValues.iterator().next();
         Preconditions.checkState(shardingValue instanceof ListRouteValue, "Inline strategy cannot support range sharding.");
-        Collection<String> shardingResult = doSharding((ListRouteValue) shardingValue);
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        result.addAll(shardingResult);
+        result.addAll(doSharding((ListRouteValue<?>) shardingValue));
         return result;
     }
     
-    private Collection<String> doSharding(final ListRouteValue shardingValue) {
+    private Collection<String> doSharding(final ListRouteValue<?> shardingValue) {
         Collection<String> result = new LinkedList<>();
-        for (PreciseShardingValue<?> each : transferToPreciseShardingValues(shardingValue)) {
-            result.add(execute(each));
+        for (Comparable<?> each : shardingValue.getValues()) {
+            result.add(execute(shardingValue.getColumnName(), each));
         }
         return result;
     }
     
-    @SuppressWarnings("unchecked")
-    private List<PreciseShardingValue> transferToPreciseShardingValues(final ListRouteValue<?> shardingValue) {
-        List<PreciseShardingValue> result = new ArrayList<>(shardingValue.getValues().size());
-        for (Comparable<?> each : shardingValue.getValues()) {
-            result.add(new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), each));
+    private String execute(final String columnName, final Comparable<?> value) {
+        if (!shardingColumn.equals(columnName) || !isCacheable(value)) {
+            return expression.evaluate(columnName, value);
+        }
+        String result = cachedTargets.get(value);
+        if (null == result) {
+            result = expression.evaluate(columnName, value);
+            if (cachedTargets.size() < MAX_CACHED_TARGET_SIZE) {
+                cachedTargets.put(value, result);
+            }
         }
         return result;
     }
     
-    private String execute(final PreciseShardingValue shardingValue) {
-        Closure<?> result = closure.rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
-        return result.call().toString();
+    private boolean isCacheable(final Comparable<?> value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
     }
     
     @Override
@@ -102,6 +102,16 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
     }
     
+    @Test
+    public void assertGetLogicTableNames() {
+        assertThat(createMaximumShardingRule().getLogicTableNames("table_0"), CoreMatchers.<Collection<String>>is(Collections.singletonList("logic_table")));
+    }
+    
+    @Test
+    public void assertGetLogicTableNamesWithoutActualTable() {
+        assertTrue(createMaximumShardingRule().getLogicTableNames("table_3").isEmpty());
+    }
+    
     @Test
     public void assertGetTableRuleWithShardingTable() {
         TableRule actual = createMaximumShardingRule().getTableRule("Logic_Table");
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineShardingExpressionTest {
+    
+    private final Collection<Comparable<?>> integralValues = Arrays.<Comparable<?>>asList(0, 7, -7, 7L, -9L, Long.MAX_VALUE, (short) 5, (byte) 3);
+    
+    private final Collection<Comparable<?>> values = Arrays.<Comparable<?>>asList(0, -7, -9L, Long.MAX_VALUE, (short) 5, "abc", new BigDecimal("10.5"));
+    
+    @Test
+    public void assertCompileSupportedExpressions() {
+        assertTrue(CompiledInlineShardingExpression.compile("t_order_${order_id % 2}").isPresent());
+        assertTrue(CompiledInlineShardingExpression.compile("ds${ order_id.hashCode() % 16 }").isPresent());
+        assertTrue(CompiledInlineShardingExpression.compile("t_order_${order_id}").isPresent());
+        assertTrue(CompiledInlineShardingExpression.compile("ds_${order_id % 2}_${order_id % 4}").isPresent());
+    }
+    
+    @Test
+    public void assertCompileUnsupportedExpressions() {
+        assertFalse(CompiledInlineShardingExpression.compile("t_order").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${order_id % 0}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${order_id / 2}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${Math.abs(order_id.hashCode()) % 2}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_${user_id % 2}_${order_id % 2}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_\\${order_id % 2}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${it}").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateModulo() {
+        assertEvaluateAsGroovy("t_order_${order_id % 2}", integralValues);
+    }
+    
+    @Test
+    public void assertEvaluateHashCodeModulo() {
+        assertEvaluateAsGroovy("ds${order_id.hashCode() % 16}", values);
+    }
+    
+    @Test
+    public void assertEvaluateColumn() {
+        assertEvaluateAsGroovy("t_order_${order_id}", values);
+    }
+    
+    @Test
+    public void assertEvaluateMultiplePlaceholders() {
+        assertEvaluateAsGroovy("ds_${order_id % 2}.t_${order_id % 4}_suffix", integralValues);
+    }
+    
+    @Test
+    public void assertEvaluateWithDifferentColumnName() {
+        InlineShardingExpression expected = new GroovyInlineShardingExpression("t_order_${order_id}");
+        InlineShardingExpression actual = CompiledInlineShardingExpression.compile("t_order_${order_id}").get();
+        assertThat(actual.evaluate("user_id", 1), is(expected.evaluate("user_id", 1)));
+    }
+    
+    private void assertEvaluateAsGroovy(final String algorithmExpression, final Collection<Comparable<?>> values) {
+        InlineShardingExpression expected = new GroovyInlineShardingExpression(algorithmExpression);
+        InlineShardingExpression actual = CompiledInlineShardingExpression.compile(algorithmExpression).get();
+        for (Comparable<?> each : values) {
+            assertThat(actual.evaluate("order_id", each), is(expected.evaluate("order_id", each)));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import com.google.common.collect.Range;
+import com.google.common.collect.Sets;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InlineShardingStrategyTest {
+    
+    private final Collection<String> targets = Sets.newHashSet("t_order_0", "t_order_1");
+    
+    @Test
+    public void assertDoShardingWithCompiledExpression() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("order_id", "t_order_$->{order_id % 2}"));
+        assertDoSharding(strategy);
+        assertDoSharding(strategy);
+    }
+    
+    @Test
+    public void assertDoShardingWithGroovyExpression() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("order_id", "t_order_$->{Math.abs(order_id % 2)}"));
+        assertDoSharding(strategy);
+        assertDoSharding(strategy);
+    }
+    
+    private void assertDoSharding(final InlineShardingStrategy strategy) {
+        assertThat(strategy.doSharding(targets, Collections.<RouteValue>singletonList(new ListRouteValue<>("order_id", "t_order", Collections.singletonList(10L)))),
+                is((Collection<String>) Sets.newHashSet("t_order_0")));
+        assertThat(strategy.doSharding(targets, Collections.<RouteValue>singletonList(new ListRouteValue<>("order_id", "t_order", Arrays.asList(1, 2, 3)))),
+                is((Collection<String>) Sets.newHashSet("t_order_0", "t_order_1")));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertDoShardingWithRangeValue() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("order_id", "t_order_$->{order_id % 2}"));
+        strategy.doSharding(targets, Collections.<RouteValue>singletonList(new RangeRouteValue<>("order_id", "t_order", Range.closed(1, 2))));
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.core;
 
 import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
@@ -50,6 +52,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public abstract class BaseShardingEngine {
     
+    @Getter(AccessLevel.PROTECTED)
     private final ShardingRule shardingRule;
     
     private final ShardingProperties shardingProperties;
@@ -80,6 +83,8 @@ public abstract class BaseShardingEngine {
     
     protected abstract SQLRouteResult route(String sql, List<Object> parameters);
     
+    protected abstract SQLRewriteEngine createRewriteEngine(SQLRouteResult sqlRouteResult, List<Object> parameters);
+    
     private SQLRouteResult executeRoute(final String sql, final List<Object> clonedParameters) {
         routingHook.start(sql);
         try {
@@ -103,30 +108,35 @@ public abstract class BaseShardingEngine {
     }
     
     private Collection<RouteUnit> rewriteAndConvert(final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
-        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sqlRouteResult, parameters, sqlRouteResult.getRoutingResult().isSingleRouting());
+        SQLRewriteEngine rewriteEngine = createRewriteEngine(sqlRouteResult, parameters);
+        Collection<String> parsedTableNames = sqlRouteResult.getOptimizedStatement().getSQLStatement().getTables().getTableNames();
+        Map<String, Optional<BindingTableRule>> bindingTableRules = new HashMap<>();
         Collection<RouteUnit> result = new LinkedHashSet<>();
         for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
-            result.add(new RouteUnit(each.getDataSourceName(), 
-                    rewriteEngine.generateSQL(each, getLogicAndActualTables(each, sqlRouteResult.getOptimizedStatement().getSQLStatement().getTables().getTableNames()))));
+            result.add(new RouteUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, getLogicAndActualTables(each, parsedTableNames, bindingTableRules))));
         }
         return result;
     }
     
-    private Map<String, String> getLogicAndActualTables(final RoutingUnit routingUnit, final Collection<String> parsedTableNames) {
-        Map<String, String> result = new HashMap<>();
+    private Map<String, String> getLogicAndActualTables(
+            final RoutingUnit routingUnit, final Collection<String> parsedTableNames, final Map<String, Optional<BindingTableRule>> bindingTableRules) {
+        Map<String, String> result = new HashMap<>(routingUnit.getTableUnits().size() * 2, 1);
         for (TableUnit each : routingUnit.getTableUnits()) {
             String logicTableName = each.getLogicTableName().toLowerCase();
             result.put(logicTableName, each.getActualTableName());
-            result.putAll(getLogicAndActualTablesFromBindingTable(routingUnit.getMasterSlaveLogicDataSourceName(), each, parsedTableNames));
+            Optional<BindingTableRule> bindingTableRule = findBindingTableRule(logicTableName, bindingTableRules);
+            if (bindingTableRule.isPresent()) {
+                result.putAll(getLogicAndActualTablesFromBindingTable(routingUnit.getMasterSlaveLogicDataSourceName(), each, parsedTableNames, bindingTableRule.get()));
+            }
         }
         return result;
     }
     
-    private Map<String, String> getLogicAndActualTablesFromBindingTable(final String dataSourceName, final TableUnit tableUnit, final Collection<String> parsedTableNames) {
-        Map<String, String> result = new LinkedHashMap<>();
-        Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(tableUnit.getLogicTableName());
-        if (bindingTableRule.isPresent()) {
-            result.putAll(getLogicAndActualTablesFromBindingTable(dataSourceName, tableUnit, parsedTableNames, bindingTableRule.get()));
+    private Optional<BindingTableRule> findBindingTableRule(final String logicTableName, final Map<String, Optional<BindingTableRule>> bindingTableRules) {
+        Optional<BindingTableRule> result = bindingTableRules.get(logicTableName);
+        if (null == result) {
+            result = shardingRule.findBindingTableRule(logicTableName);
+            bindingTableRules.put(logicTableName, result);
         }
         return result;
     }
@@ -135,8 +145,8 @@ public abstract class BaseShardingEngine {
             final String dataSourceName, final TableUnit tableUnit, final Collection<String> parsedTableNames, final BindingTableRule bindingTableRule) {
         Map<String, String> result = new LinkedHashMap<>();
         for (String each : parsedTableNames) {
-            String tableName = each.toLowerCase();
-            if (!tableName.equals(tableUnit.getLogicTableName().toLowerCase()) && bindingTableRule.hasLogicTable(tableName)) {
+            if (!each.equalsIgnoreCase(tableUnit.getLogicTableName()) && bindingTableRule.hasLogicTable(each)) {
+                String tableName = each.toLowerCase();
                 result.put(tableName, bindingTableRule.getBindingActualTable(dataSourceName, tableName, tableUnit.getActualTableName()));
             }
         }
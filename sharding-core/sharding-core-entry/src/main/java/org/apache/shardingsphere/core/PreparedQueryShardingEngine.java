@@ -20,6 +20,8 @@ package org.apache.shardingsphere.core;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.rewrite.PreparedStatementRewritePlan;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.rule.ShardingRule;
@@ -44,10 +46,13 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     
     private final PreparedStatementRoutingEngine routingEngine;
     
+    private final PreparedStatementRewritePlan rewritePlan;
+    
     public PreparedQueryShardingEngine(final String sql, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
                                        final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache) {
         super(shardingRule, shardingProperties, metaData);
         routingEngine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, databaseType, cache);
+        rewritePlan = new PreparedStatementRewritePlan(shardingRule);
     }
     
     @Override
@@ -59,4 +64,9 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
         return routingEngine.route(parameters);
     }
+    
+    @Override
+    protected SQLRewriteEngine createRewriteEngine(final SQLRouteResult sqlRouteResult, final List<Object> parameters) {
+        return rewritePlan.createRewriteEngine(sqlRouteResult, parameters);
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.StatementRoutingEngine;
 import org.apache.shardingsphere.core.rule.ShardingRule;
@@ -59,4 +60,9 @@ public final class SimpleQueryShardingEngine extends BaseShardingEngine {
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
         return routingEngine.route(sql);
     }
+    
+    @Override
+    protected SQLRewriteEngine createRewriteEngine(final SQLRouteResult sqlRouteResult, final List<Object> parameters) {
+        return new SQLRewriteEngine(getShardingRule(), sqlRouteResult, parameters, sqlRouteResult.getRoutingResult().isSingleRouting());
+    }
 }
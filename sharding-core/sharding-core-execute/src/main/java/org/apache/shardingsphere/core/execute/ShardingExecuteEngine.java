@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.execute;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import lombok.Getter;
 import org.apache.shardingsphere.core.exception.ShardingException;
 
 import java.sql.SQLException;
@@ -31,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Sharding execute engine.
@@ -39,12 +41,21 @@ import java.util.concurrent.ExecutionException;
  */
 public final class ShardingExecuteEngine implements AutoCloseable {
     
+    @Getter
     private final ShardingExecutorService shardingExecutorService;
     
     private ListeningExecutorService executorService;
     
     public ShardingExecuteEngine(final int executorSize) {
-        shardingExecutorService = new ShardingExecutorService(executorSize);
+        this(new ShardingExecutorService(executorSize));
+    }
+    
+    public ShardingExecuteEngine(final int executorSize, final int queueSize, final ExecutorRejectedPolicy rejectedPolicy) {
+        this(new ShardingExecutorService(executorSize, queueSize, rejectedPolicy));
+    }
+    
+    private ShardingExecuteEngine(final ShardingExecutorService shardingExecutorService) {
+        this.shardingExecutorService = shardingExecutorService;
         executorService = shardingExecutorService.getExecutorService();
     }
     
@@ -102,10 +113,16 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         return getGroupResults(syncGroupExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
-    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
+    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncGroupExecute(
+            final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
         Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
-        for (ShardingExecuteGroup<I> each : inputGroups) {
-            result.add(asyncGroupExecute(each, callback));
+        try {
+            for (ShardingExecuteGroup<I> each : inputGroups) {
+                result.add(asyncGroupExecute(each, callback));
+            }
+        } catch (final RejectedExecutionException ex) {
+            cancel(result);
+            throw new SQLException("Execute groups are rejected by executor service.", ex);
         }
         return result;
     }
@@ -137,6 +154,12 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         return result;
     }
     
+    private <O> void cancel(final Collection<ListenableFuture<Collection<O>>> futures) {
+        for (ListenableFuture<Collection<O>> each : futures) {
+            each.cancel(true);
+        }
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
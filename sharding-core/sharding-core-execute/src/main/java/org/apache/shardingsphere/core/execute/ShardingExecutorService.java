@@ -21,14 +21,28 @@ import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Sharding executor service.
  *
+ * <p>
+ * Executor size 0 means threads are created on demand without limit.
+ * Queue size 0 means pending tasks of fixed size executor are queued without limit,
+ * otherwise tasks out of bounded queue are handled by rejected policy.
+ * Tasks submitted after shutdown are always rejected by exception, even with caller runs policy.
+ * </p>
+ *
  * @author wuxu
  * @author zhaojun
  */
@@ -39,6 +53,8 @@ public final class ShardingExecutorService {
     
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
+    private final ThreadPoolExecutor threadPoolExecutor;
+    
     private ListeningExecutorService executorService;
     
     public ShardingExecutorService(final int executorSize) {
@@ -46,13 +62,27 @@ public final class ShardingExecutorService {
     }
     
     public ShardingExecutorService(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, 0, ExecutorRejectedPolicy.CALLER_RUNS, nameFormat);
+    }
+    
+    public ShardingExecutorService(final int executorSize, final int queueSize, final ExecutorRejectedPolicy rejectedPolicy) {
+        this(executorSize, queueSize, rejectedPolicy, DEFAULT_NAME_FORMAT);
+    }
+    
+    public ShardingExecutorService(final int executorSize, final int queueSize, final ExecutorRejectedPolicy rejectedPolicy, final String nameFormat) {
+        threadPoolExecutor = createThreadPoolExecutor(executorSize, queueSize, rejectedPolicy, nameFormat);
+        executorService = MoreExecutors.listeningDecorator(threadPoolExecutor);
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    private ThreadPoolExecutor createThreadPoolExecutor(final int executorSize, final int queueSize, final ExecutorRejectedPolicy rejectedPolicy, final String nameFormat) {
         ThreadFactory shardingThreadFactory = ShardingThreadFactoryBuilder.build(nameFormat);
-        return 0 == executorSize ? Executors.newCachedThreadPool(shardingThreadFactory) : Executors.newFixedThreadPool(executorSize, shardingThreadFactory);
+        RejectedExecutionHandler rejectedExecutionHandler = ExecutorRejectedPolicy.ABORT == rejectedPolicy ? new ThreadPoolExecutor.AbortPolicy() : new CallerRunsUnlessShutdownPolicy();
+        if (0 == executorSize) {
+            return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), shardingThreadFactory, rejectedExecutionHandler);
+        }
+        BlockingQueue<Runnable> workQueue = 0 == queueSize ? new LinkedBlockingQueue<Runnable>() : new ArrayBlockingQueue<Runnable>(queueSize);
+        return new ThreadPoolExecutor(executorSize, executorSize, 0L, TimeUnit.MILLISECONDS, workQueue, shardingThreadFactory, rejectedExecutionHandler);
     }
     
     /**
@@ -74,4 +104,15 @@ public final class ShardingExecutorService {
             }
         });
     }
+    
+    private static final class CallerRunsUnlessShutdownPolicy implements RejectedExecutionHandler {
+        
+        @Override
+        public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException(String.format("Task %s rejected from shutdown executor %s.", runnable, executor));
+            }
+            runnable.run();
+        }
+    }
 }
@@ -19,7 +19,8 @@ package org.apache.shardingsphere.core.execute.sql.execute.result;
 
 import com.google.common.base.Optional;
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
+import org.apache.shardingsphere.core.execute.sql.execute.result.memory.MemoryColumn;
+import org.apache.shardingsphere.core.execute.sql.execute.result.memory.MemoryColumnFactory;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
@@ -29,96 +30,152 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
-import java.util.ArrayList;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Query result for memory loading.
  *
+ * <p>
+ * Rows are loaded into columns, which store values by primitive arrays or packed bytes instead of boxed objects for every cell.
+ * If memory size of loaded rows exceeds max memory bytes, loading is stopped and rest rows are read from result set by streaming.
+ * </p>
+ *
  * @author zhangliang
  * @author panjuan
  */
 public final class MemoryQueryResult implements QueryResult {
     
-    private final Iterator<QueryRow> resultData;
+    private final MemoryColumn[] columns;
+    
+    private final int rowCount;
     
-    private QueryRow currentRow;
+    private final ResultSet streamingResultSet;
+    
+    private final Object[] streamingRow;
     
     private final QueryResultMetaData metaData;
     
-    @SneakyThrows
+    private int currentRowIndex = -1;
+    
+    private boolean streaming;
+    
     public MemoryQueryResult(final ResultSet resultSet, final ShardingRule shardingRule) {
-        resultData = getResultData(resultSet);
-        metaData = new QueryResultMetaData(resultSet.getMetaData(), shardingRule);
+        this(resultSet, shardingRule, 0L);
+    }
+    
+    public MemoryQueryResult(final ResultSet resultSet, final ShardingRule shardingRule, final long maxMemoryBytes) {
+        this(resultSet, new QueryResultMetaData(getResultSetMetaData(resultSet), shardingRule), maxMemoryBytes);
     }
     
-    @SneakyThrows
     public MemoryQueryResult(final ResultSet resultSet, final EncryptRule encryptRule) {
-        resultData = getResultData(resultSet);
-        metaData = new QueryResultMetaData(resultSet.getMetaData(), encryptRule);
+        this(resultSet, encryptRule, 0L);
+    }
+    
+    public MemoryQueryResult(final ResultSet resultSet, final EncryptRule encryptRule, final long maxMemoryBytes) {
+        this(resultSet, new QueryResultMetaData(getResultSetMetaData(resultSet), encryptRule), maxMemoryBytes);
     }
     
-    @SneakyThrows
     public MemoryQueryResult(final ResultSet resultSet) {
-        resultData = getResultData(resultSet);
-        metaData = new QueryResultMetaData(resultSet.getMetaData());
+        this(resultSet, new QueryResultMetaData(getResultSetMetaData(resultSet)), 0L);
     }
-        
+    
     @SneakyThrows
-    private Iterator<QueryRow> getResultData(final ResultSet resultSet) {
-        Collection<QueryRow> result = new LinkedList<>();
+    private MemoryQueryResult(final ResultSet resultSet, final QueryResultMetaData metaData, final long maxMemoryBytes) {
+        this.metaData = metaData;
+        columns = createColumns(resultSet.getMetaData());
+        rowCount = loadRows(resultSet, maxMemoryBytes);
+        boolean exceeded = maxMemoryBytes > 0 && getMemorySize() > maxMemoryBytes;
+        streamingResultSet = exceeded ? resultSet : null;
+        streamingRow = exceeded ? new Object[columns.length] : null;
+    }
+    
+    @SneakyThrows
+    private static ResultSetMetaData getResultSetMetaData(final ResultSet resultSet) {
+        return resultSet.getMetaData();
+    }
+    
+    private MemoryColumn[] createColumns(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        MemoryColumn[] result = new MemoryColumn[resultSetMetaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = MemoryColumnFactory.newInstance(resultSetMetaData.getColumnType(i + 1));
+        }
+        return result;
+    }
+    
+    private int loadRows(final ResultSet resultSet, final long maxMemoryBytes) throws SQLException {
+        int result = 0;
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                rowData.add(QueryResultUtil.getValue(resultSet, columnIndex));
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].load(resultSet, i + 1);
+            }
+            result++;
+            if (maxMemoryBytes > 0 && getMemorySize() > maxMemoryBytes) {
+                break;
             }
-            result.add(new QueryRow(rowData));
         }
-        return result.iterator();
+        return result;
+    }
+    
+    private long getMemorySize() {
+        long result = 0L;
+        for (MemoryColumn each : columns) {
+            result += each.getMemorySize();
+        }
+        return result;
     }
     
     @Override
-    public boolean next() {
-        if (resultData.hasNext()) {
-            currentRow = resultData.next();
+    public boolean next() throws SQLException {
+        if (currentRowIndex + 1 < rowCount) {
+            currentRowIndex++;
             return true;
         }
-        currentRow = null;
-        return false;
+        currentRowIndex = rowCount;
+        if (null == streamingResultSet || !streamingResultSet.next()) {
+            streaming = false;
+            return false;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            streamingRow[i] = QueryResultUtil.getValue(streamingResultSet, i + 1);
+        }
+        streaming = true;
+        return true;
+    }
+    
+    private Object getColumnValue(final int columnIndex) {
+        return streaming ? streamingRow[columnIndex - 1] : columns[columnIndex - 1].getValue(currentRowIndex);
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return decrypt(columnIndex, currentRow.getColumnValue(columnIndex));
+        return decrypt(columnIndex, getColumnValue(columnIndex));
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) {
-        return decrypt(columnLabel, currentRow.getColumnValue(metaData.getColumnIndex(columnLabel)));
+        return decrypt(columnLabel, getColumnValue(metaData.getColumnIndex(columnLabel)));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(columnIndex);
+        return getColumnValue(columnIndex);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(metaData.getColumnIndex(columnLabel));
+        return getColumnValue(metaData.getColumnIndex(columnLabel));
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.getColumnValue(columnIndex));
+        return getInputStream(getColumnValue(columnIndex));
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return getInputStream(currentRow.getColumnValue(metaData.getColumnIndex(columnLabel)));
+        return getInputStream(getColumnValue(metaData.getColumnIndex(columnLabel)));
     }
     
     @SneakyThrows
@@ -133,7 +190,7 @@ public final class MemoryQueryResult implements QueryResult {
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return !streaming && (currentRowIndex < 0 || currentRowIndex >= rowCount);
     }
     
     @Override
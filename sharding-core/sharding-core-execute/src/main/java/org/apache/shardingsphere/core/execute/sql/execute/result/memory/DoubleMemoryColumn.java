@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.memory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Memory column for float values, which are stored in double array.
+ */
+public final class DoubleMemoryColumn extends MemoryColumn {
+    
+    private double[] values = new double[INITIAL_CAPACITY];
+    
+    @Override
+    protected boolean loadValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+        if (rowIndex >= values.length) {
+            values = Arrays.copyOf(values, newCapacity(values.length, rowIndex + 1));
+        }
+        values[rowIndex] = resultSet.getDouble(columnIndex);
+        return true;
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    protected long getValuesMemorySize() {
+        return values.length * 8L;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.memory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Memory column for integral and boolean values, which are stored in long array.
+ */
+public final class LongMemoryColumn extends MemoryColumn {
+    
+    private final int columnType;
+    
+    private long[] values = new long[INITIAL_CAPACITY];
+    
+    public LongMemoryColumn(final int columnType) {
+        this.columnType = columnType;
+    }
+    
+    @Override
+    protected boolean loadValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+        if (rowIndex >= values.length) {
+            values = Arrays.copyOf(values, newCapacity(values.length, rowIndex + 1));
+        }
+        values[rowIndex] = getLong(resultSet, columnIndex);
+        return true;
+    }
+    
+    private long getLong(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        switch (columnType) {
+            case Types.BOOLEAN:
+                return resultSet.getBoolean(columnIndex) ? 1L : 0L;
+            case Types.TINYINT:
+                return resultSet.getByte(columnIndex);
+            case Types.SMALLINT:
+                return resultSet.getShort(columnIndex);
+            case Types.INTEGER:
+                return resultSet.getInt(columnIndex);
+            default:
+                return resultSet.getLong(columnIndex);
+        }
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        long value = values[rowIndex];
+        switch (columnType) {
+            case Types.BOOLEAN:
+                return 0L != value;
+            case Types.TINYINT:
+                return (byte) value;
+            case Types.SMALLINT:
+                return (short) value;
+            case Types.INTEGER:
+                return (int) value;
+            default:
+                return value;
+        }
+    }
+    
+    @Override
+    protected long getValuesMemorySize() {
+        return values.length * 8L;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.memory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Column of memory query result.
+ *
+ * <p>
+ * Values of one column are stored together, null values are marked by bitmap.
+ * Values are only boxed to objects when they are read.
+ * </p>
+ */
+public abstract class MemoryColumn {
+    
+    protected static final int INITIAL_CAPACITY = 16;
+    
+    private long[] nullBitmap = new long[1];
+    
+    private int size;
+    
+    /**
+     * Load value of current row from result set.
+     *
+     * @param resultSet result set
+     * @param columnIndex column index
+     * @throws SQLException SQL exception
+     */
+    public final void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        int rowIndex = size;
+        if (!loadValue(resultSet, columnIndex, rowIndex) || resultSet.wasNull()) {
+            markNull(rowIndex);
+        }
+        size++;
+    }
+    
+    private void markNull(final int rowIndex) {
+        int wordIndex = rowIndex >>> 6;
+        if (wordIndex >= nullBitmap.length) {
+            nullBitmap = Arrays.copyOf(nullBitmap, Math.max(nullBitmap.length * 2, wordIndex + 1));
+        }
+        nullBitmap[wordIndex] |= 1L << rowIndex;
+    }
+    
+    /**
+     * Get value of row.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value of row, {@code null} if value is SQL {@code NULL}
+     */
+    public final Object getValue(final int rowIndex) {
+        return isNull(rowIndex) ? null : getNonNullValue(rowIndex);
+    }
+    
+    private boolean isNull(final int rowIndex) {
+        int wordIndex = rowIndex >>> 6;
+        return wordIndex < nullBitmap.length && 0 != (nullBitmap[wordIndex] & 1L << rowIndex);
+    }
+    
+    /**
+     * Get estimated memory size in bytes.
+     *
+     * @return estimated memory size in bytes
+     */
+    public long getMemorySize() {
+        return nullBitmap.length * 8L + getValuesMemorySize();
+    }
+    
+    protected final int newCapacity(final int currentCapacity, final int minCapacity) {
+        return Math.max(currentCapacity + (currentCapacity >> 1), minCapacity);
+    }
+    
+    /**
+     * Load value of current row.
+     *
+     * @param resultSet result set
+     * @param columnIndex column index
+     * @param rowIndex row index to store value
+     * @return value is not null or not
+     * @throws SQLException SQL exception
+     */
+    protected abstract boolean loadValue(ResultSet resultSet, int columnIndex, int rowIndex) throws SQLException;
+    
+    protected abstract Object getNonNullValue(int rowIndex);
+    
+    protected abstract long getValuesMemorySize();
+}
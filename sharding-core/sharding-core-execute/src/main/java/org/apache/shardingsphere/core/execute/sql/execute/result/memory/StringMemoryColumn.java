@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.memory;
+
+import com.google.common.base.Charsets;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Memory column for string values.
+ *
+ * <p>
+ * Strings are packed into one byte array by UTF-8 encoding, and decoded when they are read.
+ * </p>
+ */
+public final class StringMemoryColumn extends MemoryColumn {
+    
+    private byte[] data = new byte[INITIAL_CAPACITY * 8];
+    
+    private int dataSize;
+    
+    private int[] endOffsets = new int[INITIAL_CAPACITY];
+    
+    @Override
+    protected boolean loadValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+        if (rowIndex >= endOffsets.length) {
+            endOffsets = Arrays.copyOf(endOffsets, newCapacity(endOffsets.length, rowIndex + 1));
+        }
+        String value = resultSet.getString(columnIndex);
+        if (null != value) {
+            byte[] bytes = value.getBytes(Charsets.UTF_8);
+            if (dataSize + bytes.length > data.length) {
+                data = Arrays.copyOf(data, newCapacity(data.length, dataSize + bytes.length));
+            }
+            System.arraycopy(bytes, 0, data, dataSize, bytes.length);
+            dataSize += bytes.length;
+        }
+        endOffsets[rowIndex] = dataSize;
+        return null != value;
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        int startOffset = 0 == rowIndex ? 0 : endOffsets[rowIndex - 1];
+        return new String(data, startOffset, endOffsets[rowIndex] - startOffset, Charsets.UTF_8);
+    }
+    
+    @Override
+    protected long getValuesMemorySize() {
+        return data.length + endOffsets.length * 4L;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.prepare;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Connection budget of data sources.
+ *
+ * <p>
+ * Every data source has permits as many as its pool size except reserved ones.
+ * Permits are acquired when execute groups are prepared and released when statements are closed, so fan-out queries never starve other traffic.
+ * Acquiring never blocks, query uses connections as many as acquired permits, and at least one connection.
+ * Data sources without known pool size are not limited.
+ * </p>
+ */
+public final class ConnectionBudget {
+    
+    private final Map<String, Semaphore> permits;
+    
+    public ConnectionBudget(final Map<String, Integer> poolSizes, final int reservedConnectionsSize) {
+        permits = new HashMap<>(poolSizes.size(), 1);
+        for (Entry<String, Integer> entry : poolSizes.entrySet()) {
+            permits.put(entry.getKey(), new Semaphore(Math.max(entry.getValue() - reservedConnectionsSize, 1)));
+        }
+    }
+    
+    /**
+     * Acquire permits of data source without blocking.
+     *
+     * @param dataSourceName data source name
+     * @param desiredSize desired size of permits
+     * @return size of acquired permits, less than desired size if permits are not enough
+     */
+    public int tryAcquire(final String dataSourceName, final int desiredSize) {
+        Semaphore semaphore = permits.get(dataSourceName);
+        if (null == semaphore) {
+            return desiredSize;
+        }
+        int result = 0;
+        while (result < desiredSize && semaphore.tryAcquire()) {
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Release permits of data source.
+     *
+     * @param dataSourceName data source name
+     * @param size size of permits to be released
+     */
+    public void release(final String dataSourceName, final int size) {
+        Semaphore semaphore = permits.get(dataSourceName);
+        if (null != semaphore && size > 0) {
+            semaphore.release(size);
+        }
+    }
+    
+    /**
+     * Get available permits of data source.
+     *
+     * @param dataSourceName data source name
+     * @return available permits, -1 if data source is not limited
+     */
+    public int getAvailablePermits(final String dataSourceName) {
+        Semaphore semaphore = permits.get(dataSourceName);
+        return null == semaphore ? -1 : semaphore.availablePermits();
+    }
+}
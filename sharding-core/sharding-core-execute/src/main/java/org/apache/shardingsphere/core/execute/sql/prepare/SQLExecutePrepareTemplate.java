@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.core.execute.sql.prepare;
 
 import com.google.common.collect.Lists;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
@@ -28,6 +27,7 @@ import org.apache.shardingsphere.core.route.SQLUnit;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -42,11 +42,23 @@ import java.util.Map.Entry;
  * @author panjuan
  * @author maxiaoguang
  */
-@RequiredArgsConstructor
 public final class SQLExecutePrepareTemplate {
     
     private final int maxConnectionsSizePerQuery;
     
+    private final ConnectionBudget connectionBudget;
+    
+    private final Map<String, Integer> acquiredConnectionBudget = new HashMap<>();
+    
+    public SQLExecutePrepareTemplate(final int maxConnectionsSizePerQuery) {
+        this(maxConnectionsSizePerQuery, null);
+    }
+    
+    public SQLExecutePrepareTemplate(final int maxConnectionsSizePerQuery, final ConnectionBudget connectionBudget) {
+        this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
+        this.connectionBudget = connectionBudget;
+    }
+    
     /**
      * Get execute unit groups.
      *
@@ -63,8 +75,13 @@ public final class SQLExecutePrepareTemplate {
             final Collection<RouteUnit> routeUnits, final SQLExecutePrepareCallback callback) throws SQLException {
         Map<String, List<SQLUnit>> sqlUnitGroups = getSQLUnitGroups(routeUnits);
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> result = new LinkedList<>();
-        for (Entry<String, List<SQLUnit>> entry : sqlUnitGroups.entrySet()) {
-            result.addAll(getSQLExecuteGroups(entry.getKey(), entry.getValue(), callback));
+        try {
+            for (Entry<String, List<SQLUnit>> entry : sqlUnitGroups.entrySet()) {
+                result.addAll(getSQLExecuteGroups(entry.getKey(), entry.getValue(), callback));
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            releaseConnectionBudget();
+            throw ex;
         }
         return result;
     }
@@ -83,9 +100,10 @@ public final class SQLExecutePrepareTemplate {
     private List<ShardingExecuteGroup<StatementExecuteUnit>> getSQLExecuteGroups(
             final String dataSourceName, final List<SQLUnit> sqlUnits, final SQLExecutePrepareCallback callback) throws SQLException {
         List<ShardingExecuteGroup<StatementExecuteUnit>> result = new LinkedList<>();
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+        int maxConnectionsSize = getMaxConnectionsSize(dataSourceName, sqlUnits.size());
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSize ? sqlUnits.size() / maxConnectionsSize : sqlUnits.size() / maxConnectionsSize + 1, 1);
         List<List<SQLUnit>> sqlUnitPartitions = Lists.partition(sqlUnits, desiredPartitionSize);
-        ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+        ConnectionMode connectionMode = maxConnectionsSize < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
         List<Connection> connections = callback.getConnections(connectionMode, dataSourceName, sqlUnitPartitions.size());
         int count = 0;
         for (List<SQLUnit> each : sqlUnitPartitions) {
@@ -94,6 +112,16 @@ public final class SQLExecutePrepareTemplate {
         return result;
     }
     
+    private int getMaxConnectionsSize(final String dataSourceName, final int sqlUnitsSize) {
+        if (null == connectionBudget) {
+            return maxConnectionsSizePerQuery;
+        }
+        int result = connectionBudget.tryAcquire(dataSourceName, Math.min(maxConnectionsSizePerQuery, sqlUnitsSize));
+        Integer acquiredSize = acquiredConnectionBudget.get(dataSourceName);
+        acquiredConnectionBudget.put(dataSourceName, null == acquiredSize ? result : acquiredSize + result);
+        return Math.max(result, 1);
+    }
+    
     private ShardingExecuteGroup<StatementExecuteUnit> getSQLExecuteGroup(final ConnectionMode connectionMode, final Connection connection, 
                                                                           final String dataSourceName, final List<SQLUnit> sqlUnitGroup, final SQLExecutePrepareCallback callback) throws SQLException {
         List<StatementExecuteUnit> result = new LinkedList<>();
@@ -102,6 +130,17 @@ public final class SQLExecutePrepareTemplate {
         }
         return new ShardingExecuteGroup<>(result);
     }
+    
+    /**
+     * Release connection budget acquired by prepared execute groups.
+     */
+    public void releaseConnectionBudget() {
+        if (null == connectionBudget) {
+            return;
+        }
+        for (Entry<String, Integer> entry : acquiredConnectionBudget.entrySet()) {
+            connectionBudget.release(entry.getKey(), entry.getValue());
+        }
+        acquiredConnectionBudget.clear();
+    }
 }
-
-
@@ -26,13 +26,18 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -94,6 +99,31 @@ public class ShardingExecuteEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertParallelExecuteWithRejectedGroups() throws InterruptedException {
+        ShardingExecuteEngine abortExecuteEngine = new ShardingExecuteEngine(1, 1, ExecutorRejectedPolicy.ABORT);
+        BlockingGroupExecuteCallback blockingCallback = new BlockingGroupExecuteCallback();
+        try {
+            abortExecuteEngine.groupExecute(mockInputGroups(4, 1), blockingCallback);
+            fail("SQLException should be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getCause(), instanceOf(RejectedExecutionException.class));
+        }
+        assertThat(blockingCallback.trunkThreadExecutedCount.get(), is(0));
+        assertExecutorIdle(abortExecuteEngine);
+        abortExecuteEngine.close();
+    }
+    
+    private void assertExecutorIdle(final ShardingExecuteEngine executeEngine) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (System.currentTimeMillis() < deadline
+                && (0 != executeEngine.getShardingExecutorService().getThreadPoolExecutor().getActiveCount() || 0 != executeEngine.getShardingExecutorService().getThreadPoolExecutor().getQueue().size())) {
+            Thread.sleep(10L);
+        }
+        assertThat(executeEngine.getShardingExecutorService().getThreadPoolExecutor().getActiveCount(), is(0));
+        assertThat(executeEngine.getShardingExecutorService().getThreadPoolExecutor().getQueue().size(), is(0));
+    }
+    
     @Test
     public void assertInputGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -123,4 +153,25 @@ public class ShardingExecuteEngineTest {
             return result;
         }
     }
+    
+    private static final class BlockingGroupExecuteCallback implements ShardingGroupExecuteCallback<StatementExecuteUnit, String> {
+        
+        private final CountDownLatch releaseLatch = new CountDownLatch(1);
+        
+        private final AtomicInteger trunkThreadExecutedCount = new AtomicInteger();
+        
+        @Override
+        public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+            if (isTrunkThread) {
+                trunkThreadExecutedCount.incrementAndGet();
+                return Collections.singletonList("succeed");
+            }
+            try {
+                releaseLatch.await();
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.singletonList("succeed");
+        }
+    }
 }
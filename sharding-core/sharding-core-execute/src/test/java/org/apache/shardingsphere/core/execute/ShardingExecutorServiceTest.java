@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingExecutorServiceTest {
+    
+    @Test(expected = RejectedExecutionException.class)
+    public void assertSubmitWithAbortPolicyWhenQueueIsFull() {
+        ShardingExecutorService actual = new ShardingExecutorService(1, 1, ExecutorRejectedPolicy.ABORT);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            actual.getExecutorService().submit(new BlockingTask(latch));
+            actual.getExecutorService().submit(new BlockingTask(latch));
+            assertThat(actual.getThreadPoolExecutor().getQueue().size(), is(1));
+            actual.getExecutorService().submit(new BlockingTask(latch));
+        } finally {
+            latch.countDown();
+            actual.close();
+        }
+    }
+    
+    @Test
+    public void assertSubmitWithCallerRunsPolicyWhenQueueIsFull() {
+        ShardingExecutorService actual = new ShardingExecutorService(1, 1, ExecutorRejectedPolicy.CALLER_RUNS);
+        CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<Thread> executedThread = new AtomicReference<>();
+        try {
+            actual.getExecutorService().submit(new BlockingTask(latch));
+            actual.getExecutorService().submit(new BlockingTask(latch));
+            actual.getExecutorService().submit(new Runnable() {
+                
+                @Override
+                public void run() {
+                    executedThread.set(Thread.currentThread());
+                }
+            });
+            assertThat(executedThread.get(), is(Thread.currentThread()));
+            assertThat(actual.getThreadPoolExecutor().getQueue().size(), is(1));
+        } finally {
+            latch.countDown();
+            actual.close();
+        }
+    }
+    
+    @Test(expected = RejectedExecutionException.class)
+    public void assertSubmitWithCallerRunsPolicyAfterShutdown() {
+        ShardingExecutorService actual = new ShardingExecutorService(1, 1, ExecutorRejectedPolicy.CALLER_RUNS);
+        actual.getExecutorService().shutdown();
+        actual.getExecutorService().submit(new BlockingTask(new CountDownLatch(0)));
+    }
+    
+    @Test(expected = RejectedExecutionException.class)
+    public void assertSubmitWithDefaultPolicyAfterShutdown() {
+        ShardingExecutorService actual = new ShardingExecutorService(0);
+        actual.getExecutorService().shutdown();
+        actual.getExecutorService().submit(new BlockingTask(new CountDownLatch(0)));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BlockingTask implements Runnable {
+        
+        private final CountDownLatch latch;
+        
+        @Override
+        public void run() {
+            try {
+                latch.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
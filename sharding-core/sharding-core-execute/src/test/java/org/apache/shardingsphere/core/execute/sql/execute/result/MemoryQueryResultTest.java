@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import org.apache.shardingsphere.core.rule.EncryptRule;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MemoryQueryResultTest {
+    
+    private static final Object[][] ROWS = {
+        {1, 1L, true, 1.5D, "foo", new BigDecimal("1.23")},
+        {null, null, null, null, null, null},
+        {3, Long.MAX_VALUE, false, 2.5D, "中文", new BigDecimal("4.56")},
+    };
+    
+    @Test
+    public void assertNextAndGetValue() throws SQLException {
+        MemoryQueryResult actual = new MemoryQueryResult(mockResultSet());
+        assertThat(actual.getColumnCount(), is(6));
+        assertTrue(actual.wasNull());
+        assertRows(actual, ROWS.length);
+        assertFalse(actual.next());
+        assertTrue(actual.wasNull());
+    }
+    
+    @Test
+    public void assertGetValueByColumnLabel() throws SQLException {
+        MemoryQueryResult actual = new MemoryQueryResult(mockResultSet());
+        assertTrue(actual.next());
+        assertThat((String) actual.getValue("name", String.class), is("foo"));
+        assertThat((BigDecimal) actual.getCalendarValue("price", BigDecimal.class, null), is(new BigDecimal("1.23")));
+    }
+    
+    @Test
+    public void assertNextWithStreamingAfterMaxMemoryBytesExceeded() throws SQLException {
+        MemoryQueryResult actual = new MemoryQueryResult(mockResultSet(), new EncryptRule(), 1L);
+        assertRows(actual, ROWS.length);
+        assertFalse(actual.next());
+    }
+    
+    private void assertRows(final MemoryQueryResult actual, final int rowCount) throws SQLException {
+        for (int i = 0; i < rowCount; i++) {
+            assertTrue(actual.next());
+            assertFalse(actual.wasNull());
+            for (int j = 0; j < ROWS[i].length; j++) {
+                if (null == ROWS[i][j]) {
+                    assertNull(actual.getValue(j + 1, Object.class));
+                } else {
+                    assertThat(actual.getValue(j + 1, Object.class), is(ROWS[i][j]));
+                }
+            }
+        }
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(6);
+        int[] columnTypes = {Types.INTEGER, Types.BIGINT, Types.BOOLEAN, Types.DOUBLE, Types.VARCHAR, Types.DECIMAL};
+        String[] columnLabels = {"id", "amount", "enabled", "rate", "name", "price"};
+        for (int i = 0; i < columnTypes.length; i++) {
+            when(metaData.getColumnType(i + 1)).thenReturn(columnTypes[i]);
+            when(metaData.getColumnLabel(i + 1)).thenReturn(columnLabels[i]);
+        }
+        return mock(ResultSet.class, new Answer<Object>() {
+            
+            private int cursor = -1;
+            
+            private boolean wasNull;
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                String methodName = invocation.getMethod().getName();
+                if ("next".equals(methodName)) {
+                    return ++cursor < ROWS.length;
+                }
+                if ("wasNull".equals(methodName)) {
+                    return wasNull;
+                }
+                if ("getMetaData".equals(methodName)) {
+                    return metaData;
+                }
+                Object result = ROWS[cursor][(Integer) invocation.getArguments()[0] - 1];
+                wasNull = null == result;
+                return null == result ? getDefaultValue(invocation.getMethod().getReturnType()) : result;
+            }
+        });
+    }
+    
+    private Object getDefaultValue(final Class<?> type) {
+        if (boolean.class == type) {
+            return false;
+        }
+        if (int.class == type) {
+            return 0;
+        }
+        if (long.class == type) {
+            return 0L;
+        }
+        if (double.class == type) {
+            return 0D;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.prepare;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConnectionBudgetTest {
+    
+    @Test
+    public void assertTryAcquireWithReservedConnections() {
+        ConnectionBudget connectionBudget = new ConnectionBudget(Collections.singletonMap("ds_0", 5), 2);
+        assertThat(connectionBudget.tryAcquire("ds_0", 2), is(2));
+        assertThat(connectionBudget.tryAcquire("ds_0", 2), is(1));
+        assertThat(connectionBudget.tryAcquire("ds_0", 2), is(0));
+        connectionBudget.release("ds_0", 3);
+        assertThat(connectionBudget.getAvailablePermits("ds_0"), is(3));
+    }
+    
+    @Test
+    public void assertTryAcquireWithReservedConnectionsMoreThanPoolSize() {
+        ConnectionBudget connectionBudget = new ConnectionBudget(Collections.singletonMap("ds_0", 2), 5);
+        assertThat(connectionBudget.tryAcquire("ds_0", 2), is(1));
+    }
+    
+    @Test
+    public void assertTryAcquireWithUnknownDataSource() {
+        ConnectionBudget connectionBudget = new ConnectionBudget(Collections.singletonMap("ds_0", 2), 0);
+        assertThat(connectionBudget.tryAcquire("ds_1", 10), is(10));
+        connectionBudget.release("ds_1", 10);
+        assertThat(connectionBudget.getAvailablePermits("ds_1"), is(-1));
+    }
+    
+    @Test
+    public void assertTryAcquireConcurrently() throws InterruptedException {
+        final ConnectionBudget connectionBudget = new ConnectionBudget(Collections.singletonMap("ds_0", 10), 2);
+        final AtomicInteger usedPermits = new AtomicInteger();
+        final AtomicInteger maxUsedPermits = new AtomicInteger();
+        int threadsCount = 16;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadsCount);
+        for (int i = 0; i < threadsCount; i++) {
+            executorService.submit(new Runnable() {
+                
+                @Override
+                public void run() {
+                    try {
+                        startLatch.await();
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int j = 0; j < 1000; j++) {
+                        int acquiredSize = connectionBudget.tryAcquire("ds_0", 3);
+                        int currentUsedPermits = usedPermits.addAndGet(acquiredSize);
+                        updateMax(maxUsedPermits, currentUsedPermits);
+                        usedPermits.addAndGet(-acquiredSize);
+                        connectionBudget.release("ds_0", acquiredSize);
+                    }
+                }
+            });
+        }
+        startLatch.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+        assertTrue(maxUsedPermits.get() <= 8);
+        assertThat(connectionBudget.getAvailablePermits("ds_0"), is(8));
+    }
+    
+    private void updateMax(final AtomicInteger max, final int value) {
+        int current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+}
@@ -30,11 +30,16 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -70,6 +75,60 @@ public class SQLExecutePrepareTemplateTest {
         }
     }
     
+    @Test
+    public void assertGetExecuteUnitGroupForConnectionBudgetExceeded() throws SQLException {
+        mockConnections(callback, ConnectionMode.CONNECTION_STRICTLY, 1);
+        ConnectionBudget connectionBudget = new ConnectionBudget(Collections.singletonMap("ds_0", 2), 1);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(2, connectionBudget);
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> actual = sqlExecutePrepareTemplate.getExecuteUnitGroups(mockShardRouteUnit(1, 2), callback);
+        assertThat(actual.size(), is(1));
+        for (ShardingExecuteGroup<StatementExecuteUnit> each : actual) {
+            assertThat(each.getInputs().size(), is(2));
+        }
+        assertThat(connectionBudget.getAvailablePermits("ds_0"), is(0));
+        sqlExecutePrepareTemplate.releaseConnectionBudget();
+        assertThat(connectionBudget.getAvailablePermits("ds_0"), is(1));
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupForConnectionBudgetEnough() throws SQLException {
+        mockConnections(callback, ConnectionMode.MEMORY_STRICTLY, 2);
+        ConnectionBudget connectionBudget = new ConnectionBudget(Collections.singletonMap("ds_0", 10), 1);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(2, connectionBudget);
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> actual = sqlExecutePrepareTemplate.getExecuteUnitGroups(mockShardRouteUnit(1, 2), callback);
+        assertThat(actual.size(), is(2));
+        assertThat(connectionBudget.getAvailablePermits("ds_0"), is(7));
+        sqlExecutePrepareTemplate.releaseConnectionBudget();
+        assertThat(connectionBudget.getAvailablePermits("ds_0"), is(9));
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupForConnectionBudgetReleasedWhenGetConnectionsFailed() throws SQLException {
+        when(callback.getConnections(ConnectionMode.MEMORY_STRICTLY, "ds_0", 2)).thenReturn(Arrays.asList(mock(Connection.class), mock(Connection.class)));
+        when(callback.getConnections(ConnectionMode.MEMORY_STRICTLY, "ds_1", 2)).thenThrow(new SQLException("Connection is not available, request timed out."));
+        Map<String, Integer> poolSizes = new HashMap<>(2, 1);
+        poolSizes.put("ds_0", 10);
+        poolSizes.put("ds_1", 10);
+        ConnectionBudget connectionBudget = new ConnectionBudget(poolSizes, 1);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(2, connectionBudget);
+        try {
+            sqlExecutePrepareTemplate.getExecuteUnitGroups(mockShardRouteUnit(2, 2), callback);
+            fail("SQLException should be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("Connection is not available, request timed out."));
+        }
+        assertThat(connectionBudget.getAvailablePermits("ds_0"), is(9));
+        assertThat(connectionBudget.getAvailablePermits("ds_1"), is(9));
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupForConnectionBudgetUnknown() throws SQLException {
+        mockConnections(callback, ConnectionMode.MEMORY_STRICTLY, 2);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(2, new ConnectionBudget(Collections.<String, Integer>emptyMap(), 1));
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> actual = sqlExecutePrepareTemplate.getExecuteUnitGroups(mockShardRouteUnit(1, 2), callback);
+        assertThat(actual.size(), is(2));
+    }
+    
     private void mockConnections(final SQLExecutePrepareCallback callback, final ConnectionMode connectionMode, final int size) throws SQLException {
         List<Connection> connections = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
@@ -61,4 +61,7 @@ public abstract class LocalMergedResultAdapter implements MergedResult {
         return false;
     }
     
+    @Override
+    public void close() throws SQLException {
+    }
 }
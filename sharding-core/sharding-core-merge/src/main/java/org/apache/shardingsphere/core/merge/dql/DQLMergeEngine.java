@@ -18,14 +18,19 @@
 package org.apache.shardingsphere.core.merge.dql;
 
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import lombok.Getter;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.sql.execute.result.AggregationDistinctQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
 import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.DistinctHashMergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.DistinctStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
@@ -35,6 +40,7 @@ import org.apache.shardingsphere.core.merge.dql.pagination.RowNumberDecoratorMer
 import org.apache.shardingsphere.core.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.Pagination;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
 import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationDistinctSelectItem;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
@@ -42,8 +48,12 @@ import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeMap;
 
 /**
@@ -54,6 +64,8 @@ import java.util.TreeMap;
  */
 public final class DQLMergeEngine implements MergeEngine {
     
+    private static final Collection<String> PAGINATION_DATABASE_NAMES = Arrays.asList("MySQL", "PostgreSQL", "Oracle", "SQLServer");
+    
     private final DatabaseType databaseType;
     
     private final SQLRouteResult routeResult;
@@ -62,14 +74,21 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final List<QueryResult> queryResults;
     
+    private final ShardingProperties shardingProperties;
+    
     @Getter
     private final Map<String, Integer> columnLabelIndexMap;
     
     public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults) throws SQLException {
+        this(databaseType, routeResult, queryResults, new ShardingProperties(new Properties()));
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults, final ShardingProperties shardingProperties) throws SQLException {
         this.databaseType = databaseType;
         this.routeResult = routeResult;
         this.optimizedStatement = (ShardingSelectOptimizedStatement) routeResult.getOptimizedStatement();
         this.queryResults = getRealQueryResults(queryResults);
+        this.shardingProperties = shardingProperties;
         columnLabelIndexMap = getColumnLabelIndexMap(this.queryResults.get(0));
     }
     
@@ -82,14 +101,11 @@ public final class DQLMergeEngine implements MergeEngine {
         if (!aggregationDistinctSelectItems.isEmpty()) {
             result = getDividedQueryResults(new AggregationDistinctQueryResult(queryResults, aggregationDistinctSelectItems));
         }
-        if (isNeedProcessDistinctSelectItem()) {
-            result = getDividedQueryResults(new DistinctQueryResult(queryResults, new ArrayList<>(optimizedStatement.getDistinctSelectItem().get().getDistinctColumnLabels())));
-        }
         return result.isEmpty() ? queryResults : result;
     }
     
-    private List<QueryResult> getDividedQueryResults(final DistinctQueryResult distinctQueryResult) {
-        return Lists.transform(distinctQueryResult.divide(), new Function<DistinctQueryResult, QueryResult>() {
+    private List<QueryResult> getDividedQueryResults(final AggregationDistinctQueryResult aggregationDistinctQueryResult) {
+        return Lists.transform(aggregationDistinctQueryResult.divide(), new Function<DistinctQueryResult, QueryResult>() {
             
             @Override
             public QueryResult apply(final DistinctQueryResult input) {
@@ -123,15 +139,63 @@ public final class DQLMergeEngine implements MergeEngine {
         if (!optimizedStatement.getGroupBy().getItems().isEmpty() || !optimizedStatement.getAggregationSelectItems().isEmpty()) {
             return getGroupByMergedResult();
         }
-        if (!optimizedStatement.getOrderBy().getItems().isEmpty()) {
-            return new OrderByStreamMergedResult(queryResults, optimizedStatement.getOrderBy().getItems());
+        MergedResult result = optimizedStatement.getOrderBy().getItems().isEmpty()
+                ? new IteratorStreamMergedResult(queryResults) : new OrderByStreamMergedResult(queryResults, optimizedStatement.getOrderBy().getItems());
+        return isNeedProcessDistinctSelectItem() ? getDistinctMergedResult(result) : result;
+    }
+    
+    private MergedResult getDistinctMergedResult(final MergedResult mergedResult) {
+        List<Integer> distinctColumnIndexes = getDistinctColumnIndexes();
+        return isDistinctColumnsSorted(distinctColumnIndexes)
+                ? new DistinctStreamMergedResult(mergedResult, distinctColumnIndexes) : new DistinctHashMergedResult(mergedResult, distinctColumnIndexes);
+    }
+    
+    private List<Integer> getDistinctColumnIndexes() {
+        List<Integer> result = new ArrayList<>();
+        for (String each : optimizedStatement.getDistinctSelectItem().get().getDistinctColumnLabels()) {
+            Integer columnIndex = columnLabelIndexMap.get(SQLUtil.getExactlyValue(each));
+            if (null == columnIndex) {
+                return getAllColumnIndexes();
+            }
+            result.add(columnIndex);
         }
-        return new IteratorStreamMergedResult(queryResults);
+        return result.isEmpty() ? getAllColumnIndexes() : result;
+    }
+    
+    private List<Integer> getAllColumnIndexes() {
+        return new ArrayList<>(new HashSet<>(columnLabelIndexMap.values()));
+    }
+    
+    private boolean isDistinctColumnsSorted(final List<Integer> distinctColumnIndexes) {
+        Collection<Integer> orderByColumnIndexes = new HashSet<>(distinctColumnIndexes.size(), 1);
+        for (OrderByItem each : optimizedStatement.getOrderBy().getItems()) {
+            if (orderByColumnIndexes.size() == distinctColumnIndexes.size()) {
+                break;
+            }
+            orderByColumnIndexes.add(each.getIndex());
+        }
+        return orderByColumnIndexes.equals(new HashSet<>(distinctColumnIndexes));
     }
     
     private MergedResult getGroupByMergedResult() throws SQLException {
         return optimizedStatement.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, optimizedStatement) : new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, optimizedStatement);
+                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, optimizedStatement)
+                : new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, optimizedStatement, getTopCount(),
+                        shardingProperties.<Integer>getValue(ShardingPropertiesConstant.GROUP_BY_MERGE_MAX_MEMORY_ROWS),
+                        shardingProperties.<String>getValue(ShardingPropertiesConstant.GROUP_BY_MERGE_SPILL_DIRECTORY));
+    }
+    
+    private Optional<Integer> getTopCount() {
+        Pagination pagination = optimizedStatement.getPagination();
+        if (!pagination.isHasPagination() || !pagination.getActualRowCount().isPresent() || !PAGINATION_DATABASE_NAMES.contains(getTrunkDatabaseName())) {
+            return Optional.absent();
+        }
+        long result = (long) pagination.getActualOffset() + pagination.getActualRowCount().get();
+        return result > Integer.MAX_VALUE ? Optional.<Integer>absent() : Optional.of((int) result);
+    }
+    
+    private String getTrunkDatabaseName() {
+        return DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
     }
     
     private MergedResult decorate(final MergedResult mergedResult) throws SQLException {
@@ -139,7 +203,7 @@ public final class DQLMergeEngine implements MergeEngine {
         if (!pagination.isHasPagination() || 1 == queryResults.size()) {
             return mergedResult;
         }
-        String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
+        String trunkDatabaseName = getTrunkDatabaseName();
         if ("MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName)) {
             return new LimitDecoratorMergedResult(mergedResult, pagination);
         }
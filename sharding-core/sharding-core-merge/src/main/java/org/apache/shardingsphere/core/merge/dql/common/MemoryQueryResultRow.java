@@ -35,6 +35,10 @@ public class MemoryQueryResultRow {
         data = load(queryResult);
     }
     
+    public MemoryQueryResultRow(final Object[] data) {
+        this.data = data;
+    }
+    
     private Object[] load(final QueryResult queryResult) throws SQLException {
         int columnCount = queryResult.getColumnCount();
         Object[] result = new Object[columnCount];
@@ -55,6 +59,15 @@ public class MemoryQueryResultRow {
         return data[columnIndex - 1];
     }
     
+    /**
+     * Get data of all cells.
+     *
+     * @return data of all cells
+     */
+    public Object[] getCells() {
+        return data;
+    }
+    
     /**
      * Set data for cell.
      *
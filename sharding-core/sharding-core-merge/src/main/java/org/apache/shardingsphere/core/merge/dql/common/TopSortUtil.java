@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Top sort util.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TopSortUtil {
+    
+    /**
+     * Sort elements and keep top elements only.
+     *
+     * <p>
+     * Bounded heap is used if top count is less than size of elements, memory of sorting is O(top count) instead of O(elements).
+     * </p>
+     *
+     * @param elements elements to be sorted
+     * @param comparator comparator
+     * @param topCount count of top elements to be kept, keep all elements if absent
+     * @param <T> type of element
+     * @return sorted top elements
+     */
+    public static <T> List<T> sort(final Collection<T> elements, final Comparator<T> comparator, final Optional<Integer> topCount) {
+        if (!topCount.isPresent() || topCount.get() >= elements.size()) {
+            List<T> result = new ArrayList<>(elements);
+            Collections.sort(result, comparator);
+            return result;
+        }
+        if (topCount.get() <= 0) {
+            return new ArrayList<>();
+        }
+        PriorityQueue<T> heap = new PriorityQueue<>(topCount.get(), Collections.reverseOrder(comparator));
+        for (T each : elements) {
+            if (heap.size() < topCount.get()) {
+                heap.offer(each);
+            } else if (comparator.compare(each, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(each);
+            }
+        }
+        List<T> result = new ArrayList<>(heap);
+        Collections.sort(result, comparator);
+        return result;
+    }
+}
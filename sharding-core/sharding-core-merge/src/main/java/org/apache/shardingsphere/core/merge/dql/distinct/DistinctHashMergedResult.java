@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.distinct;
+
+import org.apache.shardingsphere.core.merge.MergedResult;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Hash merged result for distinct.
+ *
+ * <p>
+ * Only distinct keys are kept in memory, rows are still iterated from merged result on demand,
+ * so rows after pagination row count are never fetched and hashed.
+ * </p>
+ */
+public final class DistinctHashMergedResult extends DistinctMergedResult {
+    
+    private final Set<Object> distinctKeys = new HashSet<>();
+    
+    public DistinctHashMergedResult(final MergedResult mergedResult, final List<Integer> distinctColumnIndexes) {
+        super(mergedResult, distinctColumnIndexes);
+    }
+    
+    @Override
+    protected boolean isNewDistinctKey(final Object distinctKey) {
+        return distinctKeys.add(distinctKey);
+    }
+}
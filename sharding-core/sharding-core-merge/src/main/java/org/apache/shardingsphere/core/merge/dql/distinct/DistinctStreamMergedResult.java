@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.distinct;
+
+import com.google.common.base.Objects;
+import org.apache.shardingsphere.core.merge.MergedResult;
+
+import java.util.List;
+
+/**
+ * Stream merged result for distinct.
+ *
+ * <p>
+ * Merged result should be sorted by distinct columns first, so duplicated rows are adjacent and only previous distinct key need to be kept.
+ * </p>
+ */
+public final class DistinctStreamMergedResult extends DistinctMergedResult {
+    
+    private boolean first = true;
+    
+    private Object previousDistinctKey;
+    
+    public DistinctStreamMergedResult(final MergedResult mergedResult, final List<Integer> distinctColumnIndexes) {
+        super(mergedResult, distinctColumnIndexes);
+    }
+    
+    @Override
+    protected boolean isNewDistinctKey(final Object distinctKey) {
+        if (!first && Objects.equal(previousDistinctKey, distinctKey)) {
+            return false;
+        }
+        first = false;
+        previousDistinctKey = distinctKey;
+        return true;
+    }
+}
@@ -17,20 +17,18 @@
 
 package org.apache.shardingsphere.core.merge.dql.groupby;
 
-import com.google.common.base.Function;
-import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
+import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.common.TopSortUtil;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.core.merge.dql.groupby.spill.GroupBySpillAggregator;
+import org.apache.shardingsphere.core.merge.dql.groupby.spill.SpilledRunsIterator;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
-import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
 
+import java.io.IOException;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -46,26 +44,40 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
     private final ShardingSelectOptimizedStatement optimizedStatement;
     
+    private final Optional<Integer> topCount;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final ShardingSelectOptimizedStatement optimizedStatement) throws SQLException {
+        this(labelAndIndexMap, queryResults, optimizedStatement, Optional.<Integer>absent(), 0, null);
+    }
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final ShardingSelectOptimizedStatement optimizedStatement,
+                                     final Optional<Integer> topCount, final int maxMemoryRows, final String spillDirectory) throws SQLException {
         super(labelAndIndexMap);
         this.optimizedStatement = optimizedStatement;
-        memoryResultSetRows = init(queryResults);
+        this.topCount = topCount;
+        memoryResultSetRows = maxMemoryRows > 0 ? new GroupBySpillAggregator(optimizedStatement, topCount, maxMemoryRows, spillDirectory).aggregate(queryResults) : init(queryResults);
     }
     
     private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        Map<GroupByValue, AggregationUnit[]> aggregationMap = new HashMap<>(1024);
+        GroupRowAggregator aggregator = new GroupRowAggregator(optimizedStatement.getAggregationSelectItems());
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, optimizedStatement.getGroupBy().getItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
+                AggregationUnit[] aggregationUnits = aggregationMap.get(groupByValue);
+                if (null == aggregationUnits) {
+                    dataMap.put(groupByValue, new MemoryQueryResultRow(each));
+                    aggregationUnits = aggregator.createAggregationUnits();
+                    aggregationMap.put(groupByValue, aggregationUnits);
+                }
+                aggregator.aggregate(each, aggregationUnits);
             }
         }
-        setAggregationValueToMemoryRow(dataMap, aggregationMap);
+        setAggregationValueToMemoryRow(aggregator, dataMap, aggregationMap);
         List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap);
         if (!result.isEmpty()) {
             setCurrentResultSetRow(result.get(0));
@@ -73,55 +85,18 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return result.iterator();
     }
     
-    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
-        }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationSelectItem, AggregationUnit> map = Maps.toMap(optimizedStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
-                
-                @Override
-                public AggregationUnit apply(final AggregationSelectItem input) {
-                    return AggregationUnitFactory.create(input.getType());
-                }
-            });
-            aggregationMap.put(groupByValue, map);
-        }
-    }
-    
-    private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationSelectItem each : optimizedStatement.getAggregationSelectItems()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationSelectItem derived : each.getDerivedAggregationSelectItems()) {
-                    values.add(getAggregationValue(queryResult, derived));
-                }
-            }
-            aggregationMap.get(groupByValue).get(each).merge(values);
-        }
-    }
-    
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationSelectItem aggregationSelectItem) throws SQLException {
-        Object result = queryResult.getValue(aggregationSelectItem.getIndex(), Object.class);
-        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
-        return (Comparable<?>) result;
-    }
-    
-    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+    private void setAggregationValueToMemoryRow(
+            final GroupRowAggregator aggregator, final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, AggregationUnit[]> aggregationMap) {
         for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationSelectItem each : optimizedStatement.getAggregationSelectItems()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+            AggregationUnit[] aggregationUnits = aggregationMap.get(entry.getKey());
+            for (int i = 0; i < aggregationUnits.length; i++) {
+                entry.getValue().setCell(aggregator.getColumnIndex(i), aggregationUnits[i].getResult());
             }
         }
     }
     
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap) {
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        Collections.sort(result, new GroupByRowComparator(optimizedStatement));
-        return result;
+        return TopSortUtil.sort(dataMap.values(), new GroupByRowComparator(optimizedStatement), topCount);
     }
     
     @Override
@@ -132,4 +107,15 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         }
         return false;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        if (memoryResultSetRows instanceof SpilledRunsIterator) {
+            try {
+                ((SpilledRunsIterator) memoryResultSetRows).close();
+            } catch (final IOException ex) {
+                throw new SQLException(ex);
+            }
+        }
+    }
 }
@@ -17,15 +17,11 @@
 
 package org.apache.shardingsphere.core.merge.dql.groupby;
 
-import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
-import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -33,7 +29,6 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Stream merged result for group by.
@@ -46,6 +41,8 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final ShardingSelectOptimizedStatement optimizedStatement;
     
+    private final GroupRowAggregator aggregator;
+    
     private final List<Object> currentRow;
     
     private List<?> currentGroupByValues;
@@ -55,15 +52,16 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         super(queryResults, optimizedStatement.getOrderBy().getItems());
         this.labelAndIndexMap = labelAndIndexMap;
         this.optimizedStatement = optimizedStatement;
+        aggregator = new GroupRowAggregator(optimizedStatement.getAggregationSelectItems());
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty()
+        currentGroupByValues = getOrderByValueLoserTree().isEmpty()
                 ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), optimizedStatement.getGroupBy().getItems()).getGroupValues();
     }
     
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValueLoserTree().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -77,54 +75,28 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
-        Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap = Maps.toMap(optimizedStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
-            
-            @Override
-            public AggregationUnit apply(final AggregationSelectItem input) {
-                return AggregationUnitFactory.create(input.getType());
-            }
-        });
+        AggregationUnit[] aggregationUnits = aggregator.createAggregationUnits();
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), optimizedStatement.getGroupBy().getItems()).getGroupValues())) {
-            aggregate(aggregationUnitMap);
+            aggregator.aggregate(getCurrentQueryResult(), aggregationUnits);
             cacheCurrentRow();
             result = super.next();
             if (!result) {
                 break;
             }
         }
-        setAggregationValueToCurrentRow(aggregationUnitMap);
+        setAggregationValueToCurrentRow(aggregationUnits);
         return result;
     }
     
-    private void aggregate(final Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap) throws SQLException {
-        for (Entry<AggregationSelectItem, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (entry.getKey().getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
-            } else {
-                for (AggregationSelectItem each : entry.getKey().getDerivedAggregationSelectItems()) {
-                    values.add(getAggregationValue(each));
-                }
-            }
-            entry.getValue().merge(values);
-        }
-    }
-    
     private void cacheCurrentRow() throws SQLException {
         for (int i = 0; i < getCurrentQueryResult().getColumnCount(); i++) {
             currentRow.add(getCurrentQueryResult().getValue(i + 1, Object.class));
         }
     }
     
-    private Comparable<?> getAggregationValue(final AggregationSelectItem aggregationSelectItem) throws SQLException {
-        Object result = getCurrentQueryResult().getValue(aggregationSelectItem.getIndex(), Object.class);
-        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
-        return (Comparable<?>) result;
-    }
-    
-    private void setAggregationValueToCurrentRow(final Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap) {
-        for (Entry<AggregationSelectItem, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            currentRow.set(entry.getKey().getIndex() - 1, entry.getValue().getResult());
+    private void setAggregationValueToCurrentRow(final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            currentRow.set(aggregator.getColumnIndex(i) - 1, aggregationUnits[i].getResult());
         }
     }
     
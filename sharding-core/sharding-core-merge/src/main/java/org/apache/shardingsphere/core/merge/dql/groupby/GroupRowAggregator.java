@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aggregator for rows of group.
+ *
+ * <p>
+ * Aggregation units of every group are kept in flat array indexed by ordinal of aggregation select items,
+ * and value lists passed to aggregation units are reused for all rows.
+ * </p>
+ */
+public final class GroupRowAggregator {
+    
+    private final AggregationSelectItem[] aggregationSelectItems;
+    
+    private final Comparable<?>[][] valueSlots;
+    
+    private final List<List<Comparable<?>>> values;
+    
+    public GroupRowAggregator(final List<AggregationSelectItem> aggregationSelectItems) {
+        this.aggregationSelectItems = aggregationSelectItems.toArray(new AggregationSelectItem[aggregationSelectItems.size()]);
+        valueSlots = new Comparable<?>[this.aggregationSelectItems.length][];
+        values = new ArrayList<>(this.aggregationSelectItems.length);
+        for (int i = 0; i < this.aggregationSelectItems.length; i++) {
+            valueSlots[i] = new Comparable<?>[Math.max(this.aggregationSelectItems[i].getDerivedAggregationSelectItems().size(), 1)];
+            values.add(Arrays.asList(valueSlots[i]));
+        }
+    }
+    
+    /**
+     * Create aggregation units for new group.
+     *
+     * @return aggregation units indexed by ordinal of aggregation select items
+     */
+    public AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationSelectItems.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationSelectItems[i].getType());
+        }
+        return result;
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     *
+     * @param queryResult query result
+     * @param aggregationUnits aggregation units of group
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult, final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationSelectItems.length; i++) {
+            List<AggregationSelectItem> derivedAggregationSelectItems = aggregationSelectItems[i].getDerivedAggregationSelectItems();
+            if (derivedAggregationSelectItems.isEmpty()) {
+                valueSlots[i][0] = getAggregationValue(queryResult, aggregationSelectItems[i]);
+            } else {
+                for (int j = 0; j < valueSlots[i].length; j++) {
+                    valueSlots[i][j] = getAggregationValue(queryResult, derivedAggregationSelectItems.get(j));
+                }
+            }
+            aggregationUnits[i].merge(values.get(i));
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationSelectItem aggregationSelectItem) throws SQLException {
+        Object result = queryResult.getValue(aggregationSelectItem.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Get column index of aggregation select item.
+     *
+     * @param ordinal ordinal of aggregation select item
+     * @return column index
+     */
+    public int getColumnIndex(final int ordinal) {
+        return aggregationSelectItems[ordinal].getIndex();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Number accumulator.
+ *
+ * <p>
+ * Integral values are accumulated by long, values of other types are accumulated by big decimal.
+ * Float values are converted by their string representations to keep exact decimal result.
+ * Accumulator is promoted to big decimal only when value of other type arrived or long accumulation overflowed.
+ * </p>
+ */
+final class NumberAccumulator {
+    
+    private static final int NONE = 0;
+    
+    private static final int LONG = 1;
+    
+    private static final int DECIMAL = 2;
+    
+    private int type = NONE;
+    
+    private long longValue;
+    
+    private BigDecimal decimalValue;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            addLong(((Number) value).longValue());
+        } else {
+            addDecimal(toBigDecimal(value));
+        }
+    }
+    
+    private void addLong(final long value) {
+        switch (type) {
+            case NONE:
+                type = LONG;
+                longValue = value;
+                return;
+            case LONG:
+                long result = longValue + value;
+                if (((longValue ^ result) & (value ^ result)) < 0) {
+                    promoteToDecimal();
+                    decimalValue = decimalValue.add(BigDecimal.valueOf(value));
+                    return;
+                }
+                longValue = result;
+                return;
+            default:
+                decimalValue = decimalValue.add(BigDecimal.valueOf(value));
+        }
+    }
+    
+    private void addDecimal(final BigDecimal value) {
+        promoteToDecimal();
+        decimalValue = decimalValue.add(value);
+    }
+    
+    private void promoteToDecimal() {
+        switch (type) {
+            case NONE:
+                decimalValue = BigDecimal.ZERO;
+                break;
+            case LONG:
+                decimalValue = BigDecimal.valueOf(longValue);
+                break;
+            default:
+                return;
+        }
+        type = DECIMAL;
+    }
+    
+    private BigDecimal toBigDecimal(final Comparable<?> value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        return new BigDecimal(value.toString());
+    }
+    
+    /**
+     * Get accumulated result.
+     *
+     * @return accumulated result, {@code null} if no value added
+     */
+    BigDecimal getResult() {
+        switch (type) {
+            case NONE:
+                return null;
+            case LONG:
+                return BigDecimal.valueOf(longValue);
+            default:
+                return decimalValue;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.spill;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.common.TopSortUtil;
+import org.apache.shardingsphere.core.merge.dql.groupby.GroupByRowComparator;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Group by aggregator which spill groups out of memory budget into temporary files.
+ *
+ * <p>
+ * Groups are aggregated in memory until count of groups reach the budget, rows of new groups are hash spilled into partition files.
+ * Groups in memory are sorted and written as one sorted run, then every partition file is aggregated by the same way recursively.
+ * Groups of different runs never overlap, so sorted runs are merged back by their head rows only,
+ * and only top rows of every run need to be written if top count of pagination is present.
+ * If there are too many runs to open together, they are merged into fewer runs before merged back.
+ * </p>
+ */
+@Slf4j
+public final class GroupBySpillAggregator {
+    
+    private static final int MAX_MERGE_FAN_IN = 64;
+    
+    private final ShardingSelectOptimizedStatement optimizedStatement;
+    
+    private final Optional<Integer> topCount;
+    
+    private final int maxMemoryRows;
+    
+    private final File spillDirectory;
+    
+    private final List<AggregationSelectItem> leafAggregationSelectItems;
+    
+    private final GroupByRowComparator comparator;
+    
+    private final Comparable<?>[] valueSlot = new Comparable<?>[1];
+    
+    private final List<Comparable<?>> values = Arrays.<Comparable<?>>asList(valueSlot);
+    
+    public GroupBySpillAggregator(final ShardingSelectOptimizedStatement optimizedStatement, final Optional<Integer> topCount, final int maxMemoryRows, final String spillDirectory) {
+        Preconditions.checkArgument(maxMemoryRows > 0, "Max memory rows of group by merging must be positive.");
+        this.optimizedStatement = optimizedStatement;
+        this.topCount = topCount;
+        this.maxMemoryRows = maxMemoryRows;
+        this.spillDirectory = new File(spillDirectory);
+        leafAggregationSelectItems = getLeafAggregationSelectItems(optimizedStatement.getAggregationSelectItems());
+        comparator = new GroupByRowComparator(optimizedStatement);
+    }
+    
+    private List<AggregationSelectItem> getLeafAggregationSelectItems(final List<AggregationSelectItem> aggregationSelectItems) {
+        List<AggregationSelectItem> result = new ArrayList<>(aggregationSelectItems.size());
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            if (each.getDerivedAggregationSelectItems().isEmpty()) {
+                result.add(each);
+            } else {
+                result.addAll(each.getDerivedAggregationSelectItems());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Aggregate query results.
+     *
+     * @param queryResults query results
+     * @return aggregated rows in sorted order
+     * @throws SQLException SQL exception
+     */
+    public Iterator<MemoryQueryResultRow> aggregate(final List<QueryResult> queryResults) throws SQLException {
+        int columnCount = queryResults.get(0).getColumnCount();
+        Map<List<Object>, GroupRow> groups = new HashMap<>(1024);
+        SpillPartitions partitions = new SpillPartitions(spillDirectory, 0);
+        List<File> runFiles = new LinkedList<>();
+        try {
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    accumulate(load(each, columnCount), groups, partitions);
+                }
+            }
+            partitions.close();
+            List<MemoryQueryResultRow> rows = getSortedRows(groups);
+            if (!partitions.isSpilled()) {
+                return rows.iterator();
+            }
+            groups.clear();
+            runFiles.add(writeRun(rows));
+            rows.clear();
+            aggregatePartitions(partitions.getFiles(), columnCount, 1, runFiles);
+            mergeRuns(runFiles, columnCount);
+            return new SpilledRunsIterator(runFiles, columnCount, comparator);
+        } catch (final IOException ex) {
+            partitions.delete();
+            delete(runFiles);
+            throw new SQLException(ex);
+        }
+    }
+    
+    private Object[] load(final QueryResult queryResult, final int columnCount) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private void aggregatePartitions(final Collection<File> partitionFiles, final int columnCount, final int level, final Collection<File> runFiles) throws IOException {
+        for (File each : partitionFiles) {
+            Map<List<Object>, GroupRow> groups = new HashMap<>(1024);
+            SpillPartitions subPartitions = new SpillPartitions(spillDirectory, level);
+            try {
+                try (SpillRowReader reader = new SpillRowReader(each, columnCount)) {
+                    Object[] row;
+                    while (null != (row = reader.read())) {
+                        accumulate(row, groups, subPartitions);
+                    }
+                }
+                subPartitions.close();
+                runFiles.add(writeRun(getSortedRows(groups)));
+                groups.clear();
+                if (subPartitions.isSpilled()) {
+                    aggregatePartitions(subPartitions.getFiles(), columnCount, level + 1, runFiles);
+                }
+            } catch (final IOException ex) {
+                subPartitions.delete();
+                throw ex;
+            }
+        }
+    }
+    
+    private void accumulate(final Object[] row, final Map<List<Object>, GroupRow> groups, final SpillPartitions partitions) throws IOException {
+        List<Object> groupByValues = getGroupByValues(row);
+        GroupRow groupRow = groups.get(groupByValues);
+        if (null == groupRow) {
+            if (groups.size() >= maxMemoryRows) {
+                partitions.write(groupByValues.hashCode(), row);
+                return;
+            }
+            groupRow = new GroupRow(row);
+            groups.put(groupByValues, groupRow);
+        }
+        groupRow.aggregate(row);
+    }
+    
+    private List<Object> getGroupByValues(final Object[] row) {
+        List<Object> result = new ArrayList<>(optimizedStatement.getGroupBy().getItems().size());
+        for (OrderByItem each : optimizedStatement.getGroupBy().getItems()) {
+            result.add(row[each.getIndex() - 1]);
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> getSortedRows(final Map<List<Object>, GroupRow> groups) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(groups.size());
+        for (GroupRow each : groups.values()) {
+            result.add(each.getResult());
+        }
+        return TopSortUtil.sort(result, comparator, topCount);
+    }
+    
+    private File writeRun(final List<MemoryQueryResultRow> rows) throws IOException {
+        return writeRun(rows.iterator());
+    }
+    
+    private File writeRun(final Iterator<MemoryQueryResultRow> rows) throws IOException {
+        File result = File.createTempFile("sharding-group-by-", ".run", spillDirectory);
+        try (SpillRowWriter writer = new SpillRowWriter(result)) {
+            int count = 0;
+            while (rows.hasNext() && (!topCount.isPresent() || count++ < topCount.get())) {
+                writer.write(rows.next().getCells());
+            }
+        } catch (final IOException ex) {
+            delete(Collections.singletonList(result));
+            throw ex;
+        }
+        return result;
+    }
+    
+    private void mergeRuns(final List<File> runFiles, final int columnCount) throws IOException {
+        while (runFiles.size() > MAX_MERGE_FAN_IN) {
+            List<File> mergingRunFiles = runFiles.subList(0, MAX_MERGE_FAN_IN);
+            File mergedRunFile;
+            try (SpilledRunsIterator runs = new SpilledRunsIterator(mergingRunFiles, columnCount, comparator)) {
+                mergedRunFile = writeRun(runs);
+            }
+            mergingRunFiles.clear();
+            runFiles.add(mergedRunFile);
+        }
+    }
+    
+    private void delete(final Collection<File> files) {
+        for (File each : files) {
+            if (each.exists() && !each.delete()) {
+                log.warn("Can not delete spill file '{}'.", each.getAbsolutePath());
+            }
+        }
+    }
+    
+    private final class GroupRow {
+        
+        private final Object[] row;
+        
+        private final AggregationUnit[] aggregationUnits;
+        
+        GroupRow(final Object[] row) {
+            this.row = row;
+            aggregationUnits = new AggregationUnit[leafAggregationSelectItems.size()];
+            for (int i = 0; i < aggregationUnits.length; i++) {
+                aggregationUnits[i] = AggregationUnitFactory.create(leafAggregationSelectItems.get(i).getType());
+            }
+        }
+        
+        void aggregate(final Object[] row) {
+            for (int i = 0; i < aggregationUnits.length; i++) {
+                valueSlot[0] = getAggregationValue(row, leafAggregationSelectItems.get(i));
+                aggregationUnits[i].merge(values);
+            }
+        }
+        
+        private Comparable<?> getAggregationValue(final Object[] row, final AggregationSelectItem aggregationSelectItem) {
+            Object result = row[aggregationSelectItem.getIndex() - 1];
+            Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+            return (Comparable<?>) result;
+        }
+        
+        MemoryQueryResultRow getResult() {
+            for (int i = 0; i < aggregationUnits.length; i++) {
+                row[leafAggregationSelectItems.get(i).getIndex() - 1] = aggregationUnits[i].getResult();
+            }
+            for (AggregationSelectItem each : optimizedStatement.getAggregationSelectItems()) {
+                if (!each.getDerivedAggregationSelectItems().isEmpty()) {
+                    row[each.getIndex() - 1] = getDerivedResult(each);
+                }
+            }
+            return new MemoryQueryResultRow(row);
+        }
+        
+        private Comparable<?> getDerivedResult(final AggregationSelectItem aggregationSelectItem) {
+            List<Comparable<?>> values = new ArrayList<>(aggregationSelectItem.getDerivedAggregationSelectItems().size());
+            for (AggregationSelectItem each : aggregationSelectItem.getDerivedAggregationSelectItems()) {
+                values.add(getAggregationValue(row, each));
+            }
+            AggregationUnit result = AggregationUnitFactory.create(aggregationSelectItem.getType());
+            result.merge(values);
+            return result.getResult();
+        }
+    }
+}
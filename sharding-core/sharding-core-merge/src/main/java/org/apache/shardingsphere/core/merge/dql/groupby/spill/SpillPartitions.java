@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.spill;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Hash partitioned spill files.
+ *
+ * <p>
+ * Partition files are created lazily, hash of group by values is mixed with partition level,
+ * so groups of one partition are spread into different partitions when it is partitioned again.
+ * </p>
+ */
+@Slf4j
+public final class SpillPartitions implements Closeable {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private final File spillDirectory;
+    
+    private final int level;
+    
+    private final SpillRowWriter[] writers = new SpillRowWriter[PARTITION_COUNT];
+    
+    private boolean spilled;
+    
+    public SpillPartitions(final File spillDirectory, final int level) {
+        this.spillDirectory = spillDirectory;
+        this.level = level;
+    }
+    
+    /**
+     * Write row into partition of group by values hash.
+     *
+     * @param hashCode hash code of group by values
+     * @param row cells of row
+     * @throws IOException IO exception
+     */
+    public void write(final int hashCode, final Object[] row) throws IOException {
+        int partition = (mix(hashCode) & Integer.MAX_VALUE) % PARTITION_COUNT;
+        if (null == writers[partition]) {
+            writers[partition] = new SpillRowWriter(File.createTempFile("sharding-group-by-", ".spill", spillDirectory));
+        }
+        writers[partition].write(row);
+        spilled = true;
+    }
+    
+    private int mix(final int hashCode) {
+        int result = hashCode ^ (level * 0x9E3779B9);
+        result ^= result >>> 16;
+        result *= 0x85EBCA6B;
+        result ^= result >>> 13;
+        result *= 0xC2B2AE35;
+        return result ^ result >>> 16;
+    }
+    
+    /**
+     * Judge whether any row spilled.
+     *
+     * @return any row spilled or not
+     */
+    public boolean isSpilled() {
+        return spilled;
+    }
+    
+    /**
+     * Get partition files.
+     *
+     * @return partition files
+     */
+    public Collection<File> getFiles() {
+        Collection<File> result = new LinkedList<>();
+        for (SpillRowWriter each : writers) {
+            if (null != each) {
+                result.add(each.getFile());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        for (SpillRowWriter each : writers) {
+            if (null != each) {
+                each.close();
+            }
+        }
+    }
+    
+    /**
+     * Close and delete all partition files.
+     */
+    public void delete() {
+        for (SpillRowWriter each : writers) {
+            if (null != each) {
+                try {
+                    each.close();
+                } catch (final IOException ex) {
+                    log.warn("Can not close spill file '{}'.", each.getFile().getAbsolutePath(), ex);
+                }
+                if (each.getFile().exists() && !each.getFile().delete()) {
+                    log.warn("Can not delete spill file '{}'.", each.getFile().getAbsolutePath());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.spill;
+
+import com.google.common.base.Charsets;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Spill row reader.
+ *
+ * <p>
+ * Spill file is deleted as soon as it is opened, opened file is still readable until reader closed.
+ * If file system does not allow to delete opened file, it is deleted when reader closed.
+ * </p>
+ */
+@Slf4j
+public final class SpillRowReader implements Closeable {
+    
+    private final File file;
+    
+    private final int columnCount;
+    
+    private final DataInputStream input;
+    
+    private final boolean deleted;
+    
+    public SpillRowReader(final File file, final int columnCount) throws IOException {
+        this.file = file;
+        this.columnCount = columnCount;
+        input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        deleted = file.delete();
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return cells of row, {@code null} if no more rows
+     * @throws IOException IO exception
+     */
+    public Object[] read() throws IOException {
+        int firstType = input.read();
+        if (-1 == firstType) {
+            return null;
+        }
+        Object[] result = new Object[columnCount];
+        result[0] = readValue(firstType);
+        for (int i = 1; i < columnCount; i++) {
+            result[i] = readValue(input.readUnsignedByte());
+        }
+        return result;
+    }
+    
+    private Object readValue(final int type) throws IOException {
+        switch (type) {
+            case SpillRowWriter.NULL:
+                return null;
+            case SpillRowWriter.STRING:
+                return new String(readBytes(), Charsets.UTF_8);
+            case SpillRowWriter.INTEGER:
+                return input.readInt();
+            case SpillRowWriter.LONG:
+                return input.readLong();
+            case SpillRowWriter.BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes()), scale);
+            case SpillRowWriter.DOUBLE:
+                return input.readDouble();
+            case SpillRowWriter.FLOAT:
+                return input.readFloat();
+            case SpillRowWriter.SHORT:
+                return input.readShort();
+            case SpillRowWriter.BYTE:
+                return input.readByte();
+            case SpillRowWriter.BOOLEAN:
+                return input.readBoolean();
+            case SpillRowWriter.TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case SpillRowWriter.SQL_DATE:
+                return new java.sql.Date(input.readLong());
+            case SpillRowWriter.TIME:
+                return new Time(input.readLong());
+            case SpillRowWriter.DATE:
+                return new Date(input.readLong());
+            case SpillRowWriter.BYTES:
+                return readBytes();
+            case SpillRowWriter.BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case SpillRowWriter.SERIALIZED:
+                return deserialize(readBytes());
+            default:
+                throw new IOException(String.format("Unknown spill value type '%s'", type));
+        }
+    }
+    
+    private byte[] readBytes() throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private Object deserialize(final byte[] value) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        input.close();
+        if (!deleted && file.exists() && !file.delete()) {
+            log.warn("Can not delete spill file '{}'.", file.getAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.spill;
+
+import com.google.common.base.Charsets;
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Spill row writer.
+ *
+ * <p>
+ * Every cell is written as one byte type tag followed by compact binary value,
+ * values of unknown types are written by java serialization.
+ * </p>
+ */
+public final class SpillRowWriter implements Closeable {
+    
+    static final int NULL = 0;
+    
+    static final int STRING = 1;
+    
+    static final int INTEGER = 2;
+    
+    static final int LONG = 3;
+    
+    static final int BIG_DECIMAL = 4;
+    
+    static final int DOUBLE = 5;
+    
+    static final int FLOAT = 6;
+    
+    static final int SHORT = 7;
+    
+    static final int BYTE = 8;
+    
+    static final int BOOLEAN = 9;
+    
+    static final int TIMESTAMP = 10;
+    
+    static final int SQL_DATE = 11;
+    
+    static final int TIME = 12;
+    
+    static final int DATE = 13;
+    
+    static final int BYTES = 14;
+    
+    static final int BIG_INTEGER = 15;
+    
+    static final int SERIALIZED = 16;
+    
+    @Getter
+    private final File file;
+    
+    private final DataOutputStream output;
+    
+    public SpillRowWriter(final File file) throws IOException {
+        this.file = file;
+        output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row cells of row
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        for (Object each : row) {
+            writeValue(each);
+        }
+    }
+    
+    private void writeValue(final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(((String) value).getBytes(Charsets.UTF_8));
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Timestamp) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof java.sql.Date) {
+            output.writeByte(SQL_DATE);
+            output.writeLong(((java.sql.Date) value).getTime());
+        } else if (value instanceof Time) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (Date.class == value.getClass()) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes((byte[]) value);
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray());
+        } else {
+            output.writeByte(SERIALIZED);
+            writeBytes(serialize(value));
+        }
+    }
+    
+    private void writeBytes(final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    private byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.spill;
+
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Iterator to merge sorted spilled runs.
+ *
+ * <p>
+ * Groups of different runs never overlap, so only head row of every run need to be kept in memory.
+ * Reader of every run is opened until the run is exhausted or the iterator is closed.
+ * </p>
+ */
+public final class SpilledRunsIterator implements Iterator<MemoryQueryResultRow>, Closeable {
+    
+    private final PriorityQueue<RunCursor> cursors;
+    
+    public SpilledRunsIterator(final Collection<File> runFiles, final int columnCount, final Comparator<MemoryQueryResultRow> comparator) throws IOException {
+        cursors = new PriorityQueue<>(Math.max(runFiles.size(), 1), new Comparator<RunCursor>() {
+            
+            @Override
+            public int compare(final RunCursor o1, final RunCursor o2) {
+                return comparator.compare(o1.current, o2.current);
+            }
+        });
+        try {
+            for (File each : runFiles) {
+                RunCursor cursor = new RunCursor(new SpillRowReader(each, columnCount));
+                if (cursor.next()) {
+                    cursors.offer(cursor);
+                }
+            }
+        } catch (final IOException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return !cursors.isEmpty();
+    }
+    
+    @Override
+    public MemoryQueryResultRow next() {
+        RunCursor cursor = cursors.poll();
+        if (null == cursor) {
+            throw new NoSuchElementException();
+        }
+        MemoryQueryResultRow result = cursor.current;
+        try {
+            if (cursor.next()) {
+                cursors.offer(cursor);
+            }
+        } catch (final IOException ex) {
+            throw new ShardingException(ex);
+        }
+        return result;
+    }
+    
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        IOException exception = null;
+        RunCursor cursor;
+        while (null != (cursor = cursors.poll())) {
+            try {
+                cursor.reader.close();
+            } catch (final IOException ex) {
+                exception = ex;
+            }
+        }
+        if (null != exception) {
+            throw exception;
+        }
+    }
+    
+    private static final class RunCursor {
+        
+        private final SpillRowReader reader;
+        
+        private MemoryQueryResultRow current;
+        
+        RunCursor(final SpillRowReader reader) {
+            this.reader = reader;
+        }
+        
+        boolean next() throws IOException {
+            Object[] row;
+            try {
+                row = reader.read();
+            } catch (final IOException ex) {
+                reader.close();
+                throw ex;
+            }
+            if (null == row) {
+                reader.close();
+                return false;
+            }
+            current = new MemoryQueryResultRow(row);
+            return true;
+        }
+    }
+}
@@ -24,10 +24,9 @@ import org.apache.shardingsphere.core.merge.dql.common.StreamMergedResult;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Stream merged result for order by.
@@ -36,48 +35,40 @@ import java.util.Queue;
  */
 public class OrderByStreamMergedResult extends StreamMergedResult {
     
-    private final Collection<OrderByItem> orderByItems;
-    
     @Getter(AccessLevel.PROTECTED)
-    private final Queue<OrderByValue> orderByValuesQueue;
+    private final OrderByValueLoserTree orderByValueLoserTree;
     
     @Getter(AccessLevel.PROTECTED)
     private boolean isFirstNext;
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final Collection<OrderByItem> orderByItems) throws SQLException {
-        this.orderByItems = orderByItems;
-        this.orderByValuesQueue = new PriorityQueue<>(queryResults.size());
-        orderResultSetsToQueue(queryResults);
+        orderByValueLoserTree = new OrderByValueLoserTree(createOrderByValues(queryResults, new OrderValuesComparator(orderByItems)));
+        setCurrentQueryResult(orderByValueLoserTree.isEmpty() ? queryResults.get(0) : orderByValueLoserTree.peek().getQueryResult());
         isFirstNext = true;
     }
     
-    private void orderResultSetsToQueue(final List<QueryResult> queryResults) throws SQLException {
+    private List<OrderByValue> createOrderByValues(final List<QueryResult> queryResults, final OrderValuesComparator comparator) {
+        List<OrderByValue> result = new ArrayList<>(queryResults.size());
         for (QueryResult each : queryResults) {
-            OrderByValue orderByValue = new OrderByValue(each, orderByItems);
-            if (orderByValue.next()) {
-                orderByValuesQueue.offer(orderByValue);
-            }
+            result.add(new OrderByValue(each, comparator));
         }
-        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
+        return result;
     }
     
     @Override
     public boolean next() throws SQLException {
-        if (orderByValuesQueue.isEmpty()) {
+        if (orderByValueLoserTree.isEmpty()) {
             return false;
         }
         if (isFirstNext) {
             isFirstNext = false;
             return true;
         }
-        OrderByValue firstOrderByValue = orderByValuesQueue.poll();
-        if (firstOrderByValue.next()) {
-            orderByValuesQueue.offer(firstOrderByValue);
-        }
-        if (orderByValuesQueue.isEmpty()) {
+        orderByValueLoserTree.advance();
+        if (orderByValueLoserTree.isEmpty()) {
             return false;
         }
-        setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
+        setCurrentQueryResult(orderByValueLoserTree.peek().getQueryResult());
         return true;
     }
 }
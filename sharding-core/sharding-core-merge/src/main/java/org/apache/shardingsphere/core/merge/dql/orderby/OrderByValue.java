@@ -19,30 +19,35 @@ package org.apache.shardingsphere.core.merge.dql.orderby;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * Order by value.
  * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class OrderByValue implements Comparable<OrderByValue> {
     
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final OrderValuesComparator comparator;
     
-    private List<Comparable<?>> orderValues;
+    private final Comparable<?>[] orderValues;
+    
+    public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems) {
+        this(queryResult, new OrderValuesComparator(orderByItems));
+    }
+    
+    public OrderByValue(final QueryResult queryResult, final OrderValuesComparator comparator) {
+        this.queryResult = queryResult;
+        this.comparator = comparator;
+        orderValues = new Comparable<?>[comparator.getSize()];
+    }
     
     /**
      * iterate next data.
@@ -52,30 +57,22 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderValues.length; i++) {
+            Object value = queryResult.getValue(comparator.getColumnIndex(i), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(), each.getSegment().getNullOrderDirection());
-            if (0 != result) {
-                return result;
-            }
-            i++;
-        }
-        return 0;
+        return comparator.compare(orderValues, o.orderValues);
     }
 }
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>
+ * Internal nodes keep the loser of their sub tree and the root keeps the overall winner,
+ * so advancing the winner only replays the path from its leaf to the root with log2(k) comparisons.
+ * Equal values are won by the former input to keep merging order stable.
+ * </p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) throws SQLException {
+        int size = orderByValues.size();
+        this.orderByValues = orderByValues.toArray(new OrderByValue[size]);
+        exhausted = new boolean[size];
+        tree = new int[Math.max(size, 1)];
+        for (int i = 0; i < size; i++) {
+            exhausted[i] = !this.orderByValues[i].next();
+        }
+        build();
+    }
+    
+    private void build() {
+        int size = orderByValues.length;
+        if (size < 2) {
+            return;
+        }
+        int[] winners = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            winners[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = winners[1];
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get current winner.
+     *
+     * @return order by value of current winner
+     */
+    public OrderByValue peek() {
+        return orderByValues[tree[0]];
+    }
+    
+    /**
+     * Move current winner to its next row and replay the tournament.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void advance() throws SQLException {
+        int winner = tree[0];
+        exhausted[winner] = !orderByValues[winner].next();
+        for (int node = (winner + orderByValues.length) >> 1; node > 0; node >>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean beats(final int index, final int otherIndex) {
+        if (exhausted[index]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        int result = orderByValues[index].compareTo(orderByValues[otherIndex]);
+        return result < 0 || 0 == result && index < otherIndex;
+    }
+}
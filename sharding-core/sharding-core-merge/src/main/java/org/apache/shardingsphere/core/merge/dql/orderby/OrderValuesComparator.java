@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+
+import java.util.Collection;
+
+/**
+ * Comparator of order values, compiled once per query from order by items.
+ *
+ * <p>
+ * Order directions and null orders are resolved to signs ahead, so comparing two rows only walks value slots.
+ * </p>
+ */
+public final class OrderValuesComparator {
+    
+    private final int[] columnIndexes;
+    
+    private final int[] directionSigns;
+    
+    private final int[] nullSigns;
+    
+    public OrderValuesComparator(final Collection<OrderByItem> orderByItems) {
+        int size = orderByItems.size();
+        columnIndexes = new int[size];
+        directionSigns = new int[size];
+        nullSigns = new int[size];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            OrderDirection orderDirection = each.getSegment().getOrderDirection();
+            columnIndexes[i] = each.getIndex();
+            directionSigns[i] = OrderDirection.ASC == orderDirection ? 1 : -1;
+            nullSigns[i] = orderDirection == each.getSegment().getNullOrderDirection() ? -1 : 1;
+            i++;
+        }
+    }
+    
+    /**
+     * Get count of order values.
+     *
+     * @return count of order values
+     */
+    public int getSize() {
+        return columnIndexes.length;
+    }
+    
+    /**
+     * Get column index of order value.
+     *
+     * @param orderValueIndex index of order value
+     * @return column index
+     */
+    public int getColumnIndex(final int orderValueIndex) {
+        return columnIndexes[orderValueIndex];
+    }
+    
+    /**
+     * Compare order values.
+     *
+     * @param thisValues this order values
+     * @param otherValues other order values
+     * @return compare result
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public int compare(final Comparable[] thisValues, final Comparable[] otherValues) {
+        for (int i = 0; i < columnIndexes.length; i++) {
+            Comparable thisValue = thisValues[i];
+            Comparable otherValue = otherValues[i];
+            if (thisValue == otherValue) {
+                continue;
+            }
+            if (null == thisValue) {
+                return nullSigns[i];
+            }
+            if (null == otherValue) {
+                return -nullSigns[i];
+            }
+            int result = thisValue.compareTo(otherValue);
+            if (0 != result) {
+                return result > 0 ? directionSigns[i] : -directionSigns[i];
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.pagination;
+
+import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memory merged result for seek pagination.
+ */
+public final class SeekPaginationMergedResult extends MemoryMergedResult {
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    public SeekPaginationMergedResult(final Map<String, Integer> labelAndIndexMap, final List<MemoryQueryResultRow> memoryResultSetRows) {
+        super(labelAndIndexMap);
+        this.memoryResultSetRows = memoryResultSetRows.iterator();
+    }
+    
+    @Override
+    public boolean next() {
+        if (memoryResultSetRows.hasNext()) {
+            setCurrentResultSetRow(memoryResultSetRows.next());
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.pagination;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.orderby.CompareUtil;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.SeekPagination;
+import org.apache.shardingsphere.core.parse.util.SQLUtil;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Merger for seek pagination.
+ *
+ * <p>
+ * Probed rows of every shard start from probe offset, so there are probe offset rows before them in every shard.
+ * The first probed key in order of all shards is seek key. Range query of every shard returns rows from seek key to its first probed key,
+ * so the count of rows before seek key is shards count multiply probe offset minus count of ranged rows.
+ * Probed and ranged rows of every shard are continuous, so rows of all shards are exact until the last probed key of shards which are not exhausted,
+ * the page is located from them only if it is covered, otherwise pagination should fall back to normal way.
+ * </p>
+ */
+public final class SeekPaginationMerger {
+    
+    private final ShardingSelectOptimizedStatement optimizedStatement;
+    
+    private final SeekPagination seekPagination;
+    
+    private final List<List<MemoryQueryResultRow>> probedRows = new ArrayList<>();
+    
+    private Map<String, Integer> labelAndIndexMap;
+    
+    private Number seekValue;
+    
+    public SeekPaginationMerger(final ShardingSelectOptimizedStatement optimizedStatement, final SeekPagination seekPagination) {
+        this.optimizedStatement = optimizedStatement;
+        this.seekPagination = seekPagination;
+    }
+    
+    /**
+     * Probe seek value.
+     *
+     * @param queryResults query results of probe SQLs in order of shards
+     * @return seek value, absent if any shard has not enough rows or key is not number
+     * @throws SQLException SQL exception
+     */
+    public Optional<Number> probe(final List<QueryResult> queryResults) throws SQLException {
+        Preconditions.checkArgument(seekPagination.getShardCount() == queryResults.size(), "Count of probe query results should be same with shards.");
+        labelAndIndexMap = getColumnLabelIndexMap(queryResults.get(0));
+        optimizedStatement.setIndexForItems(labelAndIndexMap);
+        for (QueryResult each : queryResults) {
+            List<MemoryQueryResultRow> rows = load(each);
+            if (rows.isEmpty() || !isNumberKeys(rows)) {
+                return Optional.absent();
+            }
+            probedRows.add(rows);
+            Number firstValue = getKey(rows.get(0));
+            if (null == seekValue || compare(firstValue, seekValue) < 0) {
+                seekValue = firstValue;
+            }
+        }
+        return Optional.of(seekValue);
+    }
+    
+    private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = queryResult.getColumnCount(); i > 0; i--) {
+            result.put(SQLUtil.getExactlyValue(queryResult.getColumnLabel(i)), i);
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> load(final QueryResult queryResult) throws SQLException {
+        List<MemoryQueryResultRow> result = new LinkedList<>();
+        while (queryResult.next()) {
+            result.add(new MemoryQueryResultRow(queryResult));
+        }
+        return result;
+    }
+    
+    private boolean isNumberKeys(final List<MemoryQueryResultRow> rows) {
+        for (MemoryQueryResultRow each : rows) {
+            if (!(each.getCell(seekPagination.getOrderByItem().getIndex()) instanceof Number)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Number getKey(final MemoryQueryResultRow row) {
+        return (Number) row.getCell(seekPagination.getOrderByItem().getIndex());
+    }
+    
+    private int compare(final Number thisValue, final Number otherValue) {
+        return CompareUtil.compareTo((Comparable) thisValue, (Comparable) otherValue, seekPagination.getOrderDirection(), seekPagination.getOrderByItem().getSegment().getNullOrderDirection());
+    }
+    
+    /**
+     * Get boundary value of shard.
+     *
+     * @param shardIndex index of shard
+     * @return first probed key of shard
+     */
+    public Number getBoundaryValue(final int shardIndex) {
+        return getKey(probedRows.get(shardIndex).get(0));
+    }
+    
+    /**
+     * Judge whether range query is needed for shard.
+     *
+     * @param shardIndex index of shard
+     * @return range query is needed or not
+     */
+    public boolean isRangeQueryNeeded(final int shardIndex) {
+        return 0 != compare(getBoundaryValue(shardIndex), seekValue);
+    }
+    
+    /**
+     * Merge probed and ranged rows.
+     *
+     * @param rangeQueryResults query results of range SQLs, key is index of shard
+     * @return merged result, absent if the page is not covered by probed and ranged rows
+     * @throws SQLException SQL exception
+     */
+    public Optional<MergedResult> merge(final Map<Integer, QueryResult> rangeQueryResults) throws SQLException {
+        List<MemoryQueryResultRow> rows = new ArrayList<>();
+        int rangedRowsCount = 0;
+        for (int i = 0; i < probedRows.size(); i++) {
+            if (rangeQueryResults.containsKey(i)) {
+                List<MemoryQueryResultRow> rangedRows = load(rangeQueryResults.get(i));
+                if (rangedRows.size() > seekPagination.getProbeOffset() || !isNumberKeys(rangedRows)) {
+                    return Optional.absent();
+                }
+                rangedRowsCount += rangedRows.size();
+                rows.addAll(rangedRows);
+            }
+            rows.addAll(probedRows.get(i));
+        }
+        Collections.sort(rows, new Comparator<MemoryQueryResultRow>() {
+            
+            @Override
+            public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+                return SeekPaginationMerger.this.compare(getKey(o1), getKey(o2));
+            }
+        });
+        int skippedRowsCount = seekPagination.getOffset() - seekPagination.getShardCount() * seekPagination.getProbeOffset() + rangedRowsCount;
+        int endIndex = skippedRowsCount + seekPagination.getRowCount();
+        Optional<Number> coveredValue = getCoveredValue();
+        if (coveredValue.isPresent() && (rows.size() < endIndex || compare(getKey(rows.get(endIndex - 1)), coveredValue.get()) > 0)) {
+            return Optional.absent();
+        }
+        List<MemoryQueryResultRow> pageRows = skippedRowsCount < rows.size() ? rows.subList(skippedRowsCount, Math.min(endIndex, rows.size())) : Collections.<MemoryQueryResultRow>emptyList();
+        return Optional.<MergedResult>of(new SeekPaginationMergedResult(labelAndIndexMap, pageRows));
+    }
+    
+    private Optional<Number> getCoveredValue() {
+        Number result = null;
+        for (List<MemoryQueryResultRow> each : probedRows) {
+            if (each.size() < seekPagination.getRowCount()) {
+                continue;
+            }
+            Number lastValue = getKey(each.get(each.size() - 1));
+            if (null == result || compare(lastValue, result) < 0) {
+                result = lastValue;
+            }
+        }
+        return Optional.fromNullable(result);
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.core.constant.OrderDirection;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.DistinctHashMergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.DistinctStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
@@ -41,6 +43,7 @@ import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ord
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
 import org.apache.shardingsphere.core.parse.sql.context.condition.AndCondition;
 import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.DistinctSelectItem;
 import org.apache.shardingsphere.core.parse.sql.context.selectitem.SelectItem;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
@@ -193,6 +196,36 @@ public final class DQLMergeEngineTest {
         assertThat(((TopAndRowNumberDecoratorMergedResult) actual).getMergedResult(), instanceOf(OrderByStreamMergedResult.class));
     }
     
+    @Test
+    public void assertBuildDistinctStreamMergedResult() throws SQLException {
+        OptimizedStatement optimizedStatement = new ShardingSelectOptimizedStatement(
+                new SelectStatement(), Collections.<ShardingCondition>emptyList(), new AndCondition(), createDistinctSelectItems(), new GroupBy(Collections.<OrderByItem>emptyList(), 0),
+                new OrderBy(Collections.singletonList(new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, OrderDirection.ASC))), false),
+                new Pagination(null, null, Collections.emptyList()));
+        SQLRouteResult routeResult = new SQLRouteResult(optimizedStatement);
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, instanceOf(DistinctStreamMergedResult.class));
+        assertThat(((DistinctStreamMergedResult) actual).getMergedResult(), instanceOf(OrderByStreamMergedResult.class));
+    }
+    
+    @Test
+    public void assertBuildDistinctHashMergedResultWithMySQLLimit() throws SQLException {
+        OptimizedStatement optimizedStatement = new ShardingSelectOptimizedStatement(new SelectStatement(), Collections.<ShardingCondition>emptyList(), new AndCondition(),
+                createDistinctSelectItems(), new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false),
+                new Pagination(new NumberLiteralLimitValueSegment(0, 0, 1), null, Collections.emptyList()));
+        SQLRouteResult routeResult = new SQLRouteResult(optimizedStatement);
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, instanceOf(LimitDecoratorMergedResult.class));
+        assertThat(((LimitDecoratorMergedResult) actual).getMergedResult(), instanceOf(DistinctHashMergedResult.class));
+        assertThat(((DistinctHashMergedResult) ((LimitDecoratorMergedResult) actual).getMergedResult()).getMergedResult(), instanceOf(IteratorStreamMergedResult.class));
+    }
+    
+    private List<SelectItem> createDistinctSelectItems() {
+        return Collections.<SelectItem>singletonList(new DistinctSelectItem(Collections.singleton("count(*)"), Optional.<String>absent()));
+    }
+    
     @Test
     public void assertBuildGroupByStreamMergedResult() throws SQLException {
         OptimizedStatement optimizedStatement = new ShardingSelectOptimizedStatement(
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Ordering;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TopSortUtilTest {
+    
+    private final List<Integer> elements = Arrays.asList(5, 3, 9, 1, 7, 3);
+    
+    @Test
+    public void assertSortWithoutTopCount() {
+        assertThat(TopSortUtil.sort(elements, Ordering.<Integer>natural(), Optional.<Integer>absent()), is(Arrays.asList(1, 3, 3, 5, 7, 9)));
+    }
+    
+    @Test
+    public void assertSortWithTopCountLessThanSize() {
+        assertThat(TopSortUtil.sort(elements, Ordering.<Integer>natural(), Optional.of(3)), is(Arrays.asList(1, 3, 3)));
+        assertThat(TopSortUtil.sort(elements, Ordering.<Integer>natural().reverse(), Optional.of(2)), is(Arrays.asList(9, 7)));
+    }
+    
+    @Test
+    public void assertSortWithTopCountGreaterThanSize() {
+        assertThat(TopSortUtil.sort(elements, Ordering.<Integer>natural(), Optional.of(10)), is(Arrays.asList(1, 3, 3, 5, 7, 9)));
+    }
+    
+    @Test
+    public void assertSortWithZeroTopCount() {
+        assertTrue(TopSortUtil.sort(elements, Ordering.<Integer>natural(), Optional.of(0)).isEmpty());
+        assertTrue(TopSortUtil.sort(Collections.<Integer>emptyList(), Ordering.<Integer>natural(), Optional.of(0)).isEmpty());
+    }
+}
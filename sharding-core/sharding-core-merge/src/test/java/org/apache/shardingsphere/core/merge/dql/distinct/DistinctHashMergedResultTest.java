@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.distinct;
+
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class DistinctHashMergedResultTest {
+    
+    @Test
+    public void assertNextWithSingleDistinctColumn() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 1, 2, 2, 1, 3, 3);
+        MergedResult actual = new DistinctHashMergedResult(mergedResult, Collections.singletonList(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 3));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithMultipleDistinctColumns() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2, 1);
+        when(mergedResult.getValue(2, Object.class)).thenReturn("a", "a", "a");
+        MergedResult actual = new DistinctHashMergedResult(mergedResult, Arrays.asList(1, 2));
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithoutFetchingRemainedRows() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 1, 2);
+        MergedResult actual = new DistinctHashMergedResult(mergedResult, Collections.singletonList(1));
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        verify(mergedResult, times(3)).next();
+    }
+}
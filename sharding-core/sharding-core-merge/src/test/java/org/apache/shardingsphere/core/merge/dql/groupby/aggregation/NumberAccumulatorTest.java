@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class NumberAccumulatorTest {
+    
+    @Test
+    public void assertGetResultWithoutValue() {
+        assertNull(new NumberAccumulator().getResult());
+    }
+    
+    @Test
+    public void assertAddIntegralValues() {
+        NumberAccumulator actual = new NumberAccumulator();
+        actual.add(1);
+        actual.add(2L);
+        actual.add((short) 3);
+        actual.add((byte) 4);
+        assertThat(actual.getResult(), is(new BigDecimal("10")));
+    }
+    
+    @Test
+    public void assertAddIntegralValuesWithOverflow() {
+        NumberAccumulator actual = new NumberAccumulator();
+        actual.add(Long.MAX_VALUE);
+        actual.add(Long.MAX_VALUE);
+        actual.add(-1);
+        assertThat(actual.getResult(), is(new BigDecimal(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1).subtract(BigInteger.ONE))));
+    }
+    
+    @Test
+    public void assertAddFloatValues() {
+        NumberAccumulator actual = new NumberAccumulator();
+        actual.add(1);
+        actual.add(1.5D);
+        actual.add(0.25F);
+        assertThat(actual.getResult(), is(new BigDecimal("2.75")));
+    }
+    
+    @Test
+    public void assertAddDoubleValuesExactly() {
+        NumberAccumulator actual = new NumberAccumulator();
+        actual.add(0.1D);
+        actual.add(0.2D);
+        assertThat(actual.getResult(), is(new BigDecimal("0.3")));
+    }
+    
+    @Test
+    public void assertAddFloatValueExactly() {
+        NumberAccumulator actual = new NumberAccumulator();
+        actual.add(0.1F);
+        assertThat(actual.getResult(), is(new BigDecimal("0.1")));
+    }
+    
+    @Test
+    public void assertAddDoubleValueToLargeLongValue() {
+        NumberAccumulator actual = new NumberAccumulator();
+        actual.add(9007199254740993L);
+        actual.add(0.5D);
+        assertThat(actual.getResult(), is(new BigDecimal("9007199254740993.5")));
+    }
+    
+    @Test
+    public void assertAddDecimalValues() {
+        NumberAccumulator actual = new NumberAccumulator();
+        actual.add(1);
+        actual.add(1.5D);
+        actual.add(new BigDecimal("0.01"));
+        actual.add(BigInteger.TEN);
+        actual.add("2");
+        assertThat(actual.getResult(), is(new BigDecimal("14.51")));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.spill;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.AggregationType;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.groupby.GroupBy;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderBy;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.Pagination;
+import org.apache.shardingsphere.core.parse.sql.context.condition.AndCondition;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.SelectItem;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillAggregatorTest {
+    
+    private File spillDirectory;
+    
+    private List<SelectItem> selectItems;
+    
+    @Before
+    public void setUp() throws IOException {
+        spillDirectory = Files.createTempDirectory("sharding-group-by-test").toFile();
+        AggregationSelectItem sumSelectItem = new AggregationSelectItem(AggregationType.SUM, "(num)", Optional.<String>absent());
+        sumSelectItem.setIndex(2);
+        AggregationSelectItem avgSelectItem = new AggregationSelectItem(AggregationType.AVG, "(num)", Optional.<String>absent());
+        avgSelectItem.setIndex(3);
+        AggregationSelectItem derivedCountSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(num)", Optional.of("AVG_DERIVED_COUNT_0"));
+        derivedCountSelectItem.setIndex(4);
+        avgSelectItem.getDerivedAggregationSelectItems().add(derivedCountSelectItem);
+        AggregationSelectItem derivedSumSelectItem = new AggregationSelectItem(AggregationType.SUM, "(num)", Optional.of("AVG_DERIVED_SUM_0"));
+        derivedSumSelectItem.setIndex(5);
+        avgSelectItem.getDerivedAggregationSelectItems().add(derivedSumSelectItem);
+        selectItems = Arrays.<SelectItem>asList(sumSelectItem, avgSelectItem);
+    }
+    
+    @After
+    public void tearDown() {
+        spillDirectory.delete();
+    }
+    
+    @Test
+    public void assertAggregateWithoutSpill() throws SQLException {
+        Iterator<MemoryQueryResultRow> actual = new GroupBySpillAggregator(
+                createOptimizedStatement(Collections.<OrderByItem>emptyList()), Optional.<Integer>absent(), 10, spillDirectory.getPath()).aggregate(createQueryResults());
+        assertRow(actual.next(), 1, 11, 6, 2, 12);
+        assertRow(actual.next(), 2, 20, 20, 2, 40);
+        assertRow(actual.next(), 3, 35, 18, 2, 36);
+        assertRow(actual.next(), 4, 7, 4, 2, 8);
+        assertFalse(actual.hasNext());
+        assertThat(spillDirectory.list().length, is(0));
+    }
+    
+    @Test
+    public void assertAggregateWithSpill() throws SQLException {
+        Iterator<MemoryQueryResultRow> actual = new GroupBySpillAggregator(
+                createOptimizedStatement(Collections.<OrderByItem>emptyList()), Optional.<Integer>absent(), 1, spillDirectory.getPath()).aggregate(createQueryResults());
+        assertRow(actual.next(), 1, 11, 6, 2, 12);
+        assertRow(actual.next(), 2, 20, 20, 2, 40);
+        assertRow(actual.next(), 3, 35, 18, 2, 36);
+        assertRow(actual.next(), 4, 7, 4, 2, 8);
+        assertFalse(actual.hasNext());
+        assertThat(spillDirectory.list().length, is(0));
+    }
+    
+    @Test
+    public void assertAggregateWithSpillAndOrderByAggregation() throws SQLException {
+        Iterator<MemoryQueryResultRow> actual = new GroupBySpillAggregator(
+                createOptimizedStatement(Collections.singletonList(createOrderByItem(2, OrderDirection.DESC))), Optional.<Integer>absent(), 2, spillDirectory.getPath()).aggregate(createQueryResults());
+        assertRow(actual.next(), 3, 35, 18, 2, 36);
+        assertRow(actual.next(), 2, 20, 20, 2, 40);
+        assertRow(actual.next(), 1, 11, 6, 2, 12);
+        assertRow(actual.next(), 4, 7, 4, 2, 8);
+        assertFalse(actual.hasNext());
+        assertThat(spillDirectory.list().length, is(0));
+    }
+    
+    @Test
+    public void assertAggregateWithSpillAndTopCount() throws SQLException {
+        Iterator<MemoryQueryResultRow> actual = new GroupBySpillAggregator(
+                createOptimizedStatement(Collections.singletonList(createOrderByItem(2, OrderDirection.DESC))), Optional.of(2), 1, spillDirectory.getPath()).aggregate(createQueryResults());
+        assertRow(actual.next(), 3, 35, 18, 2, 36);
+        assertRow(actual.next(), 2, 20, 20, 2, 40);
+        assertTrue(actual.hasNext());
+        assertThat(spillDirectory.list().length, is(0));
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsConsumed() throws SQLException, IOException {
+        Iterator<MemoryQueryResultRow> actual = new GroupBySpillAggregator(
+                createOptimizedStatement(Collections.<OrderByItem>emptyList()), Optional.<Integer>absent(), 1, spillDirectory.getPath()).aggregate(createQueryResults());
+        assertRow(actual.next(), 1, 11, 6, 2, 12);
+        assertTrue(actual.hasNext());
+        ((SpilledRunsIterator) actual).close();
+        assertFalse(actual.hasNext());
+        assertThat(spillDirectory.list().length, is(0));
+    }
+    
+    @Test
+    public void assertAggregateWithSpillRunsMoreThanMergeFanIn() throws SQLException {
+        int groupCount = 300;
+        Object[][] rows = new Object[groupCount][];
+        for (int i = 0; i < groupCount; i++) {
+            rows[i] = new Object[] {groupCount - i, 1, 0, 1, 1};
+        }
+        Iterator<MemoryQueryResultRow> actual = new GroupBySpillAggregator(
+                createOptimizedStatement(Collections.<OrderByItem>emptyList()), Optional.<Integer>absent(), 1, spillDirectory.getPath()).aggregate(Collections.singletonList(mockQueryResult(rows)));
+        for (int i = 1; i <= groupCount; i++) {
+            assertRow(actual.next(), i, 1, 1, 1, 1);
+        }
+        assertFalse(actual.hasNext());
+        assertThat(spillDirectory.list().length, is(0));
+    }
+    
+    private ShardingSelectOptimizedStatement createOptimizedStatement(final List<OrderByItem> orderByItems) {
+        return new ShardingSelectOptimizedStatement(new SelectStatement(), Collections.<ShardingCondition>emptyList(), new AndCondition(), selectItems,
+                new GroupBy(Collections.singletonList(createOrderByItem(1, OrderDirection.ASC)), 0), new OrderBy(orderByItems, false), new Pagination(null, null, Collections.emptyList()));
+    }
+    
+    private OrderByItem createOrderByItem(final int index, final OrderDirection orderDirection) {
+        OrderByItem result = new OrderByItem(new IndexOrderByItemSegment(0, 0, index, orderDirection, OrderDirection.ASC));
+        result.setIndex(index);
+        return result;
+    }
+    
+    private List<QueryResult> createQueryResults() throws SQLException {
+        QueryResult queryResult1 = mockQueryResult(new Object[] {1, 10, 0, 1, 10}, new Object[] {2, 20, 0, 2, 40}, new Object[] {3, 30, 0, 1, 30});
+        QueryResult queryResult2 = mockQueryResult(new Object[] {3, 5, 0, 1, 6}, new Object[] {1, 1, 0, 1, 2}, new Object[] {4, 7, 0, 2, 8});
+        return Arrays.asList(queryResult1, queryResult2);
+    }
+    
+    private QueryResult mockQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(5);
+        Boolean[] nextResults = new Boolean[rows.length];
+        Arrays.fill(nextResults, 0, rows.length - 1, true);
+        nextResults[rows.length - 1] = false;
+        when(result.next()).thenReturn(true, nextResults);
+        for (int i = 0; i < 5; i++) {
+            Object[] restValues = new Object[rows.length - 1];
+            for (int j = 1; j < rows.length; j++) {
+                restValues[j - 1] = rows[j][i];
+            }
+            when(result.getValue(i + 1, Object.class)).thenReturn(rows[0][i], restValues);
+        }
+        return result;
+    }
+    
+    private void assertRow(final MemoryQueryResultRow actual, final int id, final int sum, final int avg, final int derivedCount, final int derivedSum) {
+        assertThat((Integer) actual.getCell(1), is(id));
+        assertThat((BigDecimal) actual.getCell(2), is(new BigDecimal(sum)));
+        assertThat(((BigDecimal) actual.getCell(3)).intValue(), is(avg));
+        assertThat((BigDecimal) actual.getCell(4), is(new BigDecimal(derivedCount)));
+        assertThat((BigDecimal) actual.getCell(5), is(new BigDecimal(derivedSum)));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.spill;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class SpillRowWriterTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        UUID uuid = UUID.randomUUID();
+        Object[] row1 = new Object[] {null, "foo", 1, 2L, new BigDecimal("-12.345"), 1.5D, 2.5F, (short) 3, (byte) 4, true,
+            timestamp, new java.sql.Date(2000L), new Time(3000L), new Date(4000L), new BigInteger("123456789012345678901234567890"), uuid};
+        Object[] row2 = new Object[] {"", null, null, null, null, null, null, null, null, null, null, null, null, null, null, null};
+        File file = File.createTempFile("sharding-spill-row-test", ".spill");
+        try (SpillRowWriter writer = new SpillRowWriter(file)) {
+            writer.write(row1);
+            writer.write(row2);
+        }
+        try (SpillRowReader reader = new SpillRowReader(file, row1.length)) {
+            assertFalse(file.exists());
+            assertThat(reader.read(), is(row1));
+            assertThat(reader.read(), is(row2));
+            assertNull(reader.read());
+        }
+    }
+    
+    @Test
+    public void assertWriteAndReadBytes() throws IOException {
+        File file = File.createTempFile("sharding-spill-row-test", ".spill");
+        try (SpillRowWriter writer = new SpillRowWriter(file)) {
+            writer.write(new Object[] {new byte[] {1, 2, 3}});
+        }
+        try (SpillRowReader reader = new SpillRowReader(file, 1)) {
+            assertThat((byte[]) reader.read()[0], is(new byte[] {1, 2, 3}));
+            assertNull(reader.read());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertMergeWithoutOrderByValues() throws SQLException {
+        assertTrue(new OrderByValueLoserTree(Collections.<OrderByValue>emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertMergeWithSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(createOrderByValues(OrderDirection.ASC, new int[] {1, 3}));
+        assertThat(merge(actual), is(Arrays.asList(1, 3)));
+    }
+    
+    @Test
+    public void assertMergeForAsc() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(
+                createOrderByValues(OrderDirection.ASC, new int[] {2, 5, 9}, new int[0], new int[] {1, 5, 7, 10}, new int[] {3}, new int[] {0, 11}));
+        assertThat(merge(actual), is(Arrays.asList(0, 1, 2, 3, 5, 5, 7, 9, 10, 11)));
+    }
+    
+    @Test
+    public void assertMergeForDesc() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(
+                createOrderByValues(OrderDirection.DESC, new int[] {9, 5, 2}, new int[] {10, 7, 5, 1}, new int[0], new int[] {11, 0}, new int[] {3}, new int[] {4}, new int[0]));
+        assertThat(merge(actual), is(Arrays.asList(11, 10, 9, 7, 5, 5, 4, 3, 2, 1, 0)));
+    }
+    
+    @Test
+    public void assertMergeWithEqualValuesInInputOrder() throws SQLException {
+        List<OrderByValue> orderByValues = createOrderByValues(OrderDirection.ASC, new int[] {1}, new int[] {1}, new int[] {1});
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(orderByValues);
+        for (OrderByValue each : orderByValues) {
+            assertThat(actual.peek(), sameInstance(each));
+            actual.advance();
+        }
+        assertTrue(actual.isEmpty());
+    }
+    
+    private List<OrderByValue> createOrderByValues(final OrderDirection orderDirection, final int[]... rows) throws SQLException {
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        OrderValuesComparator comparator = new OrderValuesComparator(Collections.singletonList(orderByItem));
+        List<OrderByValue> result = new ArrayList<>(rows.length);
+        for (int[] each : rows) {
+            result.add(new OrderByValue(mockQueryResult(each), comparator));
+        }
+        return result;
+    }
+    
+    private QueryResult mockQueryResult(final int[] values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        final int[] cursor = {-1};
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++cursor[0] < values.length;
+            }
+        });
+        when(result.getValue(1, Object.class)).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return values[cursor[0]];
+            }
+        });
+        return result;
+    }
+    
+    private List<Integer> merge(final OrderByValueLoserTree loserTree) throws SQLException {
+        List<Integer> result = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            result.add((Integer) loserTree.peek().getQueryResult().getValue(1, Object.class));
+            loserTree.advance();
+        }
+        return result;
+    }
+}
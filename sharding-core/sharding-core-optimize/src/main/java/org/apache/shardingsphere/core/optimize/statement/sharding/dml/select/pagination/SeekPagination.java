@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.SelectItem;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.LimitValueSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.util.SQLUtil;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+/**
+ * Seek pagination.
+ *
+ * <p>
+ * Deep page of single table ordered by generated key is queried in two phases instead of fetching offset plus row count rows from every shard.
+ * Every shard is probed from offset divided by shards count, the first probed key in order of all shards is the seek key.
+ * Then rows between seek key and the first probed key of every shard are queried, so the global offset of seek key is known
+ * and the page can be located from rows of both phases.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class SeekPagination {
+    
+    private final String columnName;
+    
+    private final OrderByItem orderByItem;
+    
+    private final int offset;
+    
+    private final int rowCount;
+    
+    private final int shardCount;
+    
+    /**
+     * Create seek pagination if optimized statement is available for it.
+     *
+     * @param shardingRule sharding rule
+     * @param optimizedStatement optimized statement
+     * @param shardCount count of shards to be queried
+     * @param minOffset min offset to use seek pagination, not positive means disabled
+     * @return seek pagination
+     */
+    public static Optional<SeekPagination> newInstance(final ShardingRule shardingRule, final ShardingSelectOptimizedStatement optimizedStatement, final int shardCount, final int minOffset) {
+        if (minOffset <= 0 || shardCount <= 1 || !isSupportedStatement(optimizedStatement)) {
+            return Optional.absent();
+        }
+        Pagination pagination = optimizedStatement.getPagination();
+        int offset = pagination.getActualOffset();
+        if (offset < minOffset || offset < shardCount || !pagination.getActualRowCount().isPresent() || pagination.getActualRowCount().get() <= 0) {
+            return Optional.absent();
+        }
+        OrderByItem orderByItem = optimizedStatement.getOrderBy().getItems().iterator().next();
+        String columnName = SQLUtil.getExactlyValue(((ColumnOrderByItemSegment) orderByItem.getSegment()).getColumn().getName());
+        Optional<String> generateKeyColumnName = shardingRule.findGenerateKeyColumnName(optimizedStatement.getSelectStatement().getTables().getSingleTableName());
+        if (!generateKeyColumnName.isPresent() || !generateKeyColumnName.get().equalsIgnoreCase(columnName) || isAliasConflicted(optimizedStatement, columnName)) {
+            return Optional.absent();
+        }
+        return Optional.of(new SeekPagination(columnName, orderByItem, offset, pagination.getActualRowCount().get(), shardCount));
+    }
+    
+    private static boolean isSupportedStatement(final ShardingSelectOptimizedStatement optimizedStatement) {
+        SelectStatement selectStatement = optimizedStatement.getSelectStatement();
+        return selectStatement.getOffset() instanceof LimitValueSegment && selectStatement.getRowCount() instanceof LimitValueSegment
+                && !selectStatement.isContainsSubquery() && selectStatement.getTables().isSingleTable() && selectStatement.findSQLSegment(OrderBySegment.class).isPresent()
+                && optimizedStatement.getGroupBy().getItems().isEmpty() && optimizedStatement.getAggregationSelectItems().isEmpty()
+                && !optimizedStatement.getDistinctSelectItem().isPresent() && 1 == optimizedStatement.getOrderBy().getItems().size()
+                && optimizedStatement.getOrderBy().getItems().iterator().next().getSegment() instanceof ColumnOrderByItemSegment;
+    }
+    
+    private static boolean isAliasConflicted(final ShardingSelectOptimizedStatement optimizedStatement, final String columnName) {
+        for (SelectItem each : optimizedStatement.getItems()) {
+            if (each.getAlias().isPresent() && columnName.equalsIgnoreCase(SQLUtil.getExactlyValue(each.getAlias().get()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get order direction.
+     *
+     * @return order direction
+     */
+    public OrderDirection getOrderDirection() {
+        return orderByItem.getSegment().getOrderDirection();
+    }
+    
+    /**
+     * Get offset of probe query for every shard.
+     *
+     * <p>
+     * There are probe offset rows before the first probed row in every shard,
+     * so it is also the max row count of range query for every shard.
+     * </p>
+     *
+     * @return offset of probe query
+     */
+    public int getProbeOffset() {
+        return offset / shardCount;
+    }
+}
@@ -17,13 +17,16 @@
 
 package org.apache.shardingsphere.core.parse;
 
+import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.parse.cache.SQLShapeCache;
 import org.apache.shardingsphere.core.parse.extractor.SQLSegmentsExtractorEngine;
 import org.apache.shardingsphere.core.parse.filler.SQLStatementFillerEngine;
 import org.apache.shardingsphere.core.parse.parser.SQLAST;
 import org.apache.shardingsphere.core.parse.parser.SQLParserEngine;
+import org.apache.shardingsphere.core.parse.parser.SQLShape;
 import org.apache.shardingsphere.core.parse.rule.registry.ParseRuleRegistry;
 import org.apache.shardingsphere.core.parse.sql.segment.SQLSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
@@ -59,7 +62,29 @@ public final class SQLParseEngine {
      * @return SQL statement
      */
     public SQLStatement parse() {
-        SQLAST ast = parserEngine.parse();
+        return parse(parserEngine.parse());
+    }
+    
+    /**
+     * Parse SQL with SQL shape cache.
+     * 
+     * <p>
+     * Parser will be skipped if SQL shape cache hit, only extract and fill SQL statement from rebound abstract syntax tree.
+     * </p>
+     *
+     * @param shapeCache SQL shape cache
+     * @return SQL statement
+     */
+    public SQLStatement parse(final SQLShapeCache shapeCache) {
+        SQLShape sqlShape = parserEngine.tokenize();
+        Optional<SQLAST> cachedAST = shapeCache.borrow(sqlShape);
+        SQLAST ast = cachedAST.isPresent() ? cachedAST.get() : parserEngine.parse(sqlShape);
+        SQLStatement result = parse(ast);
+        shapeCache.giveBack(sqlShape, ast);
+        return result;
+    }
+    
+    private SQLStatement parse(final SQLAST ast) {
         Collection<SQLSegment> sqlSegments = extractorEngine.extract(ast);
         Map<ParserRuleContext, Integer> parameterMarkerIndexes = ast.getParameterMarkerIndexes();
         return fillerEngine.fill(sqlSegments, parameterMarkerIndexes.size(), ast.getSqlStatementRule());
@@ -17,11 +17,15 @@
 
 package org.apache.shardingsphere.core.parse.cache;
 
-import org.apache.commons.collections4.map.AbstractReferenceMap;
-import org.apache.commons.collections4.map.ReferenceMap;
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.parse.cache.storage.ParsingResultCacheStorage;
+import org.apache.shardingsphere.core.parse.cache.storage.ParsingResultCacheStorageServiceLoader;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
-import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Parsing result cache.
@@ -31,16 +35,40 @@ import java.util.Map;
  */
 public final class ParsingResultCache {
     
-    private final Map<String, SQLStatement> cache = new ReferenceMap<>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1);
+    private final ParsingResultCacheStorage storage;
+    
+    private final SQLShapeCache shapeCache;
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    private final AtomicLong totalLoadTime = new AtomicLong();
+    
+    public ParsingResultCache() {
+        this(new ShardingProperties(new Properties()));
+    }
+    
+    public ParsingResultCache(final ShardingProperties shardingProperties) {
+        long maxSize = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_SIZE);
+        long maxWeight = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_WEIGHT);
+        Properties storageProps = new Properties();
+        storageProps.setProperty("max.size", String.valueOf(maxSize));
+        storageProps.setProperty("max.weight", String.valueOf(maxWeight));
+        storage = new ParsingResultCacheStorageServiceLoader().newService(shardingProperties.<String>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_TYPE), storageProps);
+        shapeCache = shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_SHAPE_CACHE_ENABLED) ? new SQLShapeCache(maxSize) : null;
+    }
     
     /**
      * Put SQL and parsing result into cache.
      * 
      * @param sql SQL
      * @param sqlStatement SQL statement
+     * @param loadTime nano time of parsing SQL
      */
-    public void put(final String sql, final SQLStatement sqlStatement) {
-        cache.put(sql, sqlStatement);
+    public void put(final String sql, final SQLStatement sqlStatement, final long loadTime) {
+        storage.put(sql, sqlStatement);
+        totalLoadTime.addAndGet(loadTime);
     }
     
     /**
@@ -50,13 +78,87 @@ public final class ParsingResultCache {
      * @return SQL statement
      */
     public SQLStatement getSQLStatement(final String sql) {
-        return cache.get(sql);
+        SQLStatement result = storage.get(sql);
+        if (null == result) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return result;
+    }
+    
+    /**
+     * Get SQL shape cache.
+     *
+     * @return SQL shape cache, absent if SQL shape cache is disabled
+     */
+    public Optional<SQLShapeCache> getShapeCache() {
+        return Optional.fromNullable(shapeCache);
+    }
+    
+    /**
+     * Get count of cached SQL statements.
+     *
+     * @return count of cached SQL statements
+     */
+    public long getSize() {
+        return storage.size();
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+    
+    /**
+     * Get hit rate.
+     *
+     * @return hit rate, return {@code 1.0} if never requested
+     */
+    public double getHitRate() {
+        long hit = hitCount.get();
+        long requestCount = hit + missCount.get();
+        return 0 == requestCount ? 1.0 : (double) hit / requestCount;
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return storage.getEvictionCount();
+    }
+    
+    /**
+     * Get total nano time of parsing SQLs which put into cache.
+     *
+     * @return total load time
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime.get();
     }
     
     /**
      * Clear cache.
      */
     public synchronized void clear() {
-        cache.clear();
+        storage.clear();
+        if (null != shapeCache) {
+            shapeCache.clear();
+        }
     }
 }
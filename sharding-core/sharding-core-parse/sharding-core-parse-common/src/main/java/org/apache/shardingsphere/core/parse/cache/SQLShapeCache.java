@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.apache.shardingsphere.core.parse.parser.SQLAST;
+import org.apache.shardingsphere.core.parse.parser.SQLShape;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL shape cache.
+ *
+ * <p>
+ * Cache abstract syntax trees by SQL shape, and rebind cached abstract syntax tree to tokens of SQL which has same shape.
+ * Each abstract syntax tree can only be used by one parsing at the same time, so they are pooled for every shape.
+ * </p>
+ */
+public final class SQLShapeCache {
+    
+    private static final int MAX_POOLED_SIZE_PER_SHAPE = Runtime.getRuntime().availableProcessors();
+    
+    private final Cache<String, Queue<SQLAST>> cache;
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    public SQLShapeCache(final long maxSize) {
+        cache = CacheBuilder.newBuilder().concurrencyLevel(Runtime.getRuntime().availableProcessors()).maximumSize(maxSize).build();
+    }
+    
+    /**
+     * Borrow abstract syntax tree which rebound to tokens of SQL shape.
+     *
+     * @param sqlShape SQL shape
+     * @return abstract syntax tree
+     */
+    public Optional<SQLAST> borrow(final SQLShape sqlShape) {
+        Queue<SQLAST> pooledASTs = cache.getIfPresent(sqlShape.getKey());
+        SQLAST result = null == pooledASTs ? null : pooledASTs.poll();
+        if (null == result) {
+            missCount.incrementAndGet();
+            return Optional.absent();
+        }
+        hitCount.incrementAndGet();
+        rebind(result.getParserRuleContext(), sqlShape.getTokens());
+        return Optional.of(result);
+    }
+    
+    private void rebind(final ParserRuleContext rootNode, final List<Token> tokens) {
+        LinkedList<ParseTree> nodes = new LinkedList<>();
+        nodes.add(rootNode);
+        while (!nodes.isEmpty()) {
+            ParseTree node = nodes.poll();
+            if (node instanceof TerminalNodeImpl) {
+                ((TerminalNodeImpl) node).symbol = getToken(((TerminalNodeImpl) node).symbol, tokens);
+                continue;
+            }
+            ParserRuleContext context = (ParserRuleContext) node;
+            context.start = getToken(context.start, tokens);
+            context.stop = getToken(context.stop, tokens);
+            for (int i = 0; i < context.getChildCount(); i++) {
+                nodes.add(context.getChild(i));
+            }
+        }
+    }
+    
+    private Token getToken(final Token cachedToken, final List<Token> tokens) {
+        return null == cachedToken || cachedToken.getTokenIndex() < 0 ? cachedToken : tokens.get(cachedToken.getTokenIndex());
+    }
+    
+    /**
+     * Give back abstract syntax tree to cache.
+     *
+     * @param sqlShape SQL shape
+     * @param ast abstract syntax tree
+     */
+    @SneakyThrows
+    public void giveBack(final SQLShape sqlShape, final SQLAST ast) {
+        Queue<SQLAST> pooledASTs = cache.get(sqlShape.getKey(), new Callable<Queue<SQLAST>>() {
+            
+            @Override
+            public Queue<SQLAST> call() {
+                return new ConcurrentLinkedQueue<SQLAST>();
+            }
+        });
+        if (pooledASTs.size() < MAX_POOLED_SIZE_PER_SHAPE) {
+            pooledASTs.offer(ast);
+        }
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
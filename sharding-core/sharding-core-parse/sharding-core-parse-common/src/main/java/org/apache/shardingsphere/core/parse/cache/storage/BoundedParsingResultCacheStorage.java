@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache.storage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import lombok.Getter;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+
+import java.util.Properties;
+
+/**
+ * Size bounded parsing result cache storage.
+ *
+ * <p>
+ * Least recently used SQL statements will be evicted if count of SQL statements exceed {@code max.size},
+ * or total length of SQLs exceed {@code max.weight} if it is configured as positive number.
+ * </p>
+ */
+public final class BoundedParsingResultCacheStorage implements ParsingResultCacheStorage {
+    
+    private static final long DEFAULT_MAX_SIZE = 65535L;
+    
+    @Getter
+    private Properties properties = new Properties();
+    
+    private Cache<String, SQLStatement> cache = createCache(properties);
+    
+    @Override
+    public String getType() {
+        return "BOUNDED";
+    }
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        cache = createCache(properties);
+    }
+    
+    private Cache<String, SQLStatement> createCache(final Properties properties) {
+        long maxWeight = Long.parseLong(properties.getProperty("max.weight", "0"));
+        CacheBuilder<Object, Object> result = CacheBuilder.newBuilder().concurrencyLevel(Runtime.getRuntime().availableProcessors()).recordStats();
+        if (maxWeight > 0) {
+            return result.maximumWeight(maxWeight).weigher(new Weigher<String, SQLStatement>() {
+                
+                @Override
+                public int weigh(final String key, final SQLStatement value) {
+                    return key.length();
+                }
+            }).build();
+        }
+        return result.maximumSize(Long.parseLong(properties.getProperty("max.size", String.valueOf(DEFAULT_MAX_SIZE)))).build();
+    }
+    
+    @Override
+    public SQLStatement get(final String sql) {
+        return cache.getIfPresent(sql);
+    }
+    
+    @Override
+    public void put(final String sql, final SQLStatement sqlStatement) {
+        cache.put(sql, sqlStatement);
+    }
+    
+    @Override
+    public long size() {
+        return cache.size();
+    }
+    
+    @Override
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+    
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
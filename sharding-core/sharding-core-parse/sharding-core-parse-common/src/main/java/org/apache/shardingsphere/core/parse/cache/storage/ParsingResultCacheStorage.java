@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache.storage;
+
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.spi.TypeBasedSPI;
+
+/**
+ * Parsing result cache storage.
+ */
+public interface ParsingResultCacheStorage extends TypeBasedSPI {
+    
+    /**
+     * Get SQL statement.
+     *
+     * @param sql SQL
+     * @return SQL statement, return {@code null} if absent
+     */
+    SQLStatement get(String sql);
+    
+    /**
+     * Put SQL and parsing result into storage.
+     *
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     */
+    void put(String sql, SQLStatement sqlStatement);
+    
+    /**
+     * Get count of cached SQL statements.
+     *
+     * @return count of cached SQL statements
+     */
+    long size();
+    
+    /**
+     * Get count of evicted SQL statements.
+     *
+     * @return count of evicted SQL statements
+     */
+    long getEvictionCount();
+    
+    /**
+     * Clear storage.
+     */
+    void clear();
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache.storage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.commons.collections4.map.AbstractReferenceMap;
+import org.apache.commons.collections4.map.ReferenceMap;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Soft reference parsing result cache storage.
+ *
+ * <p>
+ * SQL statements are unbounded and only cleared by garbage collector under heap pressure.
+ * </p>
+ * @author zhaojun
+ */
+@Getter
+@Setter
+public final class SoftReferenceParsingResultCacheStorage implements ParsingResultCacheStorage {
+    
+    private final Map<String, SQLStatement> cache = Collections.synchronizedMap(
+            new ReferenceMap<String, SQLStatement>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1));
+    
+    private Properties properties = new Properties();
+    
+    @Override
+    public String getType() {
+        return "SOFT_REFERENCE";
+    }
+    
+    @Override
+    public SQLStatement get(final String sql) {
+        return cache.get(sql);
+    }
+    
+    @Override
+    public void put(final String sql, final SQLStatement sqlStatement) {
+        cache.put(sql, sqlStatement);
+    }
+    
+    @Override
+    public long size() {
+        return cache.size();
+    }
+    
+    @Override
+    public long getEvictionCount() {
+        return 0L;
+    }
+    
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+}
@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.cache.SQLShapeCache;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
 /**
@@ -45,9 +46,11 @@ public abstract class SQLParseEntry {
         if (cachedSQLStatement.isPresent()) {
             return cachedSQLStatement.get();
         }
-        SQLStatement result = getSQLParseEngine(sql).parse();
+        long startTime = System.nanoTime();
+        Optional<SQLShapeCache> shapeCache = parsingResultCache.getShapeCache();
+        SQLStatement result = shapeCache.isPresent() ? getSQLParseEngine(sql).parse(shapeCache.get()) : getSQLParseEngine(sql).parse();
         if (useCache) {
-            parsingResultCache.put(sql, result);
+            parsingResultCache.put(sql, result, System.nanoTime() - startTime);
         }
         return result;
     }
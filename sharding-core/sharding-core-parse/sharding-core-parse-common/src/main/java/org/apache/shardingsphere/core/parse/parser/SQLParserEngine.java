@@ -18,9 +18,12 @@
 package org.apache.shardingsphere.core.parse.parser;
 
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
 import org.apache.shardingsphere.core.parse.exception.SQLParsingException;
 import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
@@ -52,7 +55,33 @@ public final class SQLParserEngine {
      * @return abstract syntax tree of SQL
      */
     public SQLAST parse() {
-        ParseTree parseTree = SQLParserFactory.newInstance(databaseType, sql).execute().getChild(0);
+        return parse(SQLParserFactory.newInstance(databaseType, sql));
+    }
+    
+    /**
+     * Parse SQL to abstract syntax tree with tokens of SQL shape.
+     *
+     * @param sqlShape SQL shape
+     * @return abstract syntax tree of SQL
+     */
+    public SQLAST parse(final SQLShape sqlShape) {
+        return parse(SQLParserFactory.newInstance(databaseType, sqlShape.getTokenStream()));
+    }
+    
+    /**
+     * Tokenize SQL to SQL shape with lexer only.
+     *
+     * @return SQL shape
+     */
+    public SQLShape tokenize() {
+        Lexer lexer = SQLParserFactory.newLexer(databaseType, sql);
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        tokenStream.fill();
+        return new SQLShape(tokenStream, lexer.getVocabulary());
+    }
+    
+    private SQLAST parse(final SQLParser sqlParser) {
+        ParseTree parseTree = sqlParser.execute().getChild(0);
         if (parseTree instanceof ErrorNode) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
@@ -32,8 +32,13 @@ import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
 import org.apache.shardingsphere.spi.database.BranchDatabaseType;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.lang.reflect.Constructor;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * SQL parser factory.
@@ -46,11 +51,21 @@ public final class SQLParserFactory {
     
     private static final Collection<DatabaseType> DATABASE_TYPES = new HashSet<>();
     
+    private static final Map<DatabaseType, SQLParserEntry> SQL_PARSER_ENTRIES = new HashMap<>();
+    
+    private static final ConcurrentMap<DatabaseType, Constructor<? extends Lexer>> LEXER_CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private static final ConcurrentMap<DatabaseType, Constructor<? extends SQLParser>> PARSER_CONSTRUCTORS = new ConcurrentHashMap<>();
+    
     static {
         NewInstanceServiceLoader.register(SQLParserEntry.class);
         for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
+            DatabaseType databaseType = DatabaseTypes.getActualDatabaseType(each.getDatabaseType());
             if (!(each instanceof BranchDatabaseType)) {
-                DATABASE_TYPES.add(DatabaseTypes.getActualDatabaseType(each.getDatabaseType()));
+                DATABASE_TYPES.add(databaseType);
+            }
+            if (!SQL_PARSER_ENTRIES.containsKey(databaseType)) {
+                SQL_PARSER_ENTRIES.put(databaseType, each);
             }
         }
     }
@@ -72,17 +87,48 @@ public final class SQLParserFactory {
      * @return SQL parser
      */
     public static SQLParser newInstance(final DatabaseType databaseType, final String sql) {
-        for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
-            if (DatabaseTypes.getActualDatabaseType(each.getDatabaseType()) == databaseType) {
-                return createSQLParser(sql, each);
-            }
+        return newInstance(databaseType, new CommonTokenStream(newLexer(databaseType, sql)));
+    }
+    
+    /**
+     * New instance of SQL parser.
+     *
+     * @param databaseType database type
+     * @param tokenStream token stream
+     * @return SQL parser
+     */
+    @SneakyThrows
+    public static SQLParser newInstance(final DatabaseType databaseType, final TokenStream tokenStream) {
+        Constructor<? extends SQLParser> constructor = PARSER_CONSTRUCTORS.get(databaseType);
+        if (null == constructor) {
+            constructor = getSQLParserEntry(databaseType).getParserClass().getConstructor(TokenStream.class);
+            PARSER_CONSTRUCTORS.putIfAbsent(databaseType, constructor);
         }
-        throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        return constructor.newInstance(tokenStream);
     }
     
+    /**
+     * New instance of SQL lexer.
+     *
+     * @param databaseType database type
+     * @param sql SQL
+     * @return SQL lexer
+     */
     @SneakyThrows
-    private static SQLParser createSQLParser(final String sql, final SQLParserEntry parserEntry) {
-        Lexer lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
-        return parserEntry.getParserClass().getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
+    public static Lexer newLexer(final DatabaseType databaseType, final String sql) {
+        Constructor<? extends Lexer> constructor = LEXER_CONSTRUCTORS.get(databaseType);
+        if (null == constructor) {
+            constructor = getSQLParserEntry(databaseType).getLexerClass().getConstructor(CharStream.class);
+            LEXER_CONSTRUCTORS.putIfAbsent(databaseType, constructor);
+        }
+        return constructor.newInstance(CharStreams.fromString(sql));
+    }
+    
+    private static SQLParserEntry getSQLParserEntry(final DatabaseType databaseType) {
+        SQLParserEntry result = SQL_PARSER_ENTRIES.get(databaseType);
+        if (null == result) {
+            throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        }
+        return result;
     }
 }
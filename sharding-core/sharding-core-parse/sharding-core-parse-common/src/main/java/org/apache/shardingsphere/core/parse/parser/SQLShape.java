@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import lombok.Getter;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Shape of SQL.
+ *
+ * <p>
+ * Shape is token sequence of SQL with literals normalized into placeholders, SQLs which only different with literals have same shape.
+ * </p>
+ */
+@Getter
+public final class SQLShape {
+    
+    private static final Collection<String> LITERAL_SYMBOLIC_NAMES = new HashSet<>(Arrays.asList("STRING_", "NUMBER_", "HEX_DIGIT_", "BIT_NUM_"));
+    
+    private final CommonTokenStream tokenStream;
+    
+    private final String key;
+    
+    public SQLShape(final CommonTokenStream tokenStream, final Vocabulary vocabulary) {
+        this.tokenStream = tokenStream;
+        key = createKey(tokenStream.getTokens(), vocabulary);
+    }
+    
+    private String createKey(final List<Token> tokens, final Vocabulary vocabulary) {
+        StringBuilder result = new StringBuilder();
+        for (Token each : tokens) {
+            result.append(each.getType()).append(' ');
+            if (!LITERAL_SYMBOLIC_NAMES.contains(vocabulary.getSymbolicName(each.getType()))) {
+                result.append(each.getText().length()).append(':').append(each.getText()).append(' ');
+            }
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Get tokens.
+     *
+     * @return tokens
+     */
+    public List<Token> getTokens() {
+        return tokenStream.getTokens();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ParsingResultCacheTest {
+    
+    @Test
+    public void assertGetSQLStatement() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        SQLStatement sqlStatement = new SelectStatement();
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+        parsingResultCache.put("SELECT 1", sqlStatement, 100L);
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1"), is(sqlStatement));
+        assertThat(parsingResultCache.getHitCount(), is(1L));
+        assertThat(parsingResultCache.getMissCount(), is(1L));
+        assertThat(parsingResultCache.getHitRate(), is(0.5D));
+        assertThat(parsingResultCache.getTotalLoadTime(), is(100L));
+        assertFalse(parsingResultCache.getShapeCache().isPresent());
+    }
+    
+    @Test
+    public void assertEvictWithMaxSize() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_SIZE.getKey(), "1");
+        ParsingResultCache parsingResultCache = new ParsingResultCache(new ShardingProperties(props));
+        parsingResultCache.put("SELECT 1", new SelectStatement(), 0L);
+        parsingResultCache.put("SELECT 2", new SelectStatement(), 0L);
+        assertThat(parsingResultCache.getSize(), is(1L));
+        assertThat(parsingResultCache.getEvictionCount(), is(1L));
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+    }
+    
+    @Test
+    public void assertEvictWithMaxWeight() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_WEIGHT.getKey(), "10");
+        ParsingResultCache parsingResultCache = new ParsingResultCache(new ShardingProperties(props));
+        parsingResultCache.put("SELECT 1", new SelectStatement(), 0L);
+        parsingResultCache.put("SELECT 2", new SelectStatement(), 0L);
+        assertThat(parsingResultCache.getSize(), is(1L));
+    }
+    
+    @Test
+    public void assertClear() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PARSING_RESULT_CACHE_TYPE.getKey(), "SOFT_REFERENCE");
+        props.setProperty(ShardingPropertiesConstant.SQL_SHAPE_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        ParsingResultCache parsingResultCache = new ParsingResultCache(new ShardingProperties(props));
+        parsingResultCache.put("SELECT 1", new SelectStatement(), 0L);
+        assertTrue(parsingResultCache.getShapeCache().isPresent());
+        parsingResultCache.clear();
+        assertThat(parsingResultCache.getSize(), is(0L));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.integrate.engine.sharding;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.cache.SQLShapeCache;
+import org.apache.shardingsphere.core.parse.entry.ShardingSQLParseEntry;
+import org.apache.shardingsphere.core.parse.fixture.ParsingTestCaseFixtureBuilder;
+import org.apache.shardingsphere.core.parse.integrate.asserts.ShardingSQLStatementAssert;
+import org.apache.shardingsphere.core.parse.integrate.jaxb.ParserResultSetRegistry;
+import org.apache.shardingsphere.core.parse.integrate.jaxb.ShardingParserResultSetRegistry;
+import org.apache.shardingsphere.core.parse.parser.SQLParserEngine;
+import org.apache.shardingsphere.core.parse.rule.registry.ShardingParseRuleRegistry;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.test.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.loader.SQLCasesLoader;
+import org.apache.shardingsphere.test.sql.loader.sharding.ShardingSQLCasesRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+@RequiredArgsConstructor
+public final class ShardingParameterizedShapeCachedParsingTest {
+    
+    private static SQLCasesLoader sqlCasesLoader = ShardingSQLCasesRegistry.getInstance().getSqlCasesLoader();
+    
+    private static ParserResultSetRegistry parserResultSetRegistry = ShardingParserResultSetRegistry.getInstance().getRegistry();
+    
+    private static ParsingResultCache parsingResultCache = createParsingResultCache();
+    
+    private static ShardingTableMetaData shardingTableMetaData = ParsingTestCaseFixtureBuilder.buildShardingTableMetaData();
+    
+    private final String sqlCaseId;
+    
+    private final String databaseType;
+    
+    private final SQLCaseType sqlCaseType;
+    
+    @Parameters(name = "{0} ({2}) -> {1}")
+    public static Collection<Object[]> getTestParameters() {
+        return sqlCasesLoader.getSQLTestParameters();
+    }
+    
+    private static ParsingResultCache createParsingResultCache() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.SQL_SHAPE_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        return new ParsingResultCache(new ShardingProperties(props));
+    }
+    
+    @Test
+    public void assertSupportedSQLWithRebindShape() {
+        String sql = sqlCasesLoader.getSQL(sqlCaseId, sqlCaseType, parserResultSetRegistry.get(sqlCaseId).getParameters());
+        ShardingSQLParseEntry parseEntry = new ShardingSQLParseEntry(DatabaseTypes.getTrunkDatabaseType(databaseType), shardingTableMetaData, parsingResultCache);
+        parseEntry.parse(getLiteralChangedSQL(sql), false);
+        SQLShapeCache shapeCache = parsingResultCache.getShapeCache().get();
+        long hitCount = shapeCache.getHitCount();
+        SQLStatement sqlStatement = parseEntry.parse(sql, false);
+        assertThat(shapeCache.getHitCount(), is(hitCount + 1));
+        new ShardingSQLStatementAssert(sqlStatement, sqlCaseId, sqlCaseType).assertSQLStatement();
+    }
+    
+    private String getLiteralChangedSQL(final String sql) {
+        List<Token> tokens = new SQLParserEngine(
+                ShardingParseRuleRegistry.getInstance(), DatabaseTypes.getTrunkDatabaseType(databaseType), sql).tokenize().getTokenStream().getTokens();
+        Vocabulary vocabulary = ((Lexer) tokens.get(0).getTokenSource()).getVocabulary();
+        StringBuilder result = new StringBuilder(" ").append(sql);
+        for (int i = tokens.size() - 1; i >= 0; i--) {
+            Token each = tokens.get(i);
+            String symbolicName = vocabulary.getSymbolicName(each.getType());
+            if ("NUMBER_".equals(symbolicName)) {
+                result.insert(each.getStopIndex() + 2, "0");
+            } else if ("STRING_".equals(symbolicName)) {
+                result.insert(each.getStartIndex() + 2, "x");
+            }
+        }
+        return result.toString();
+    }
+}
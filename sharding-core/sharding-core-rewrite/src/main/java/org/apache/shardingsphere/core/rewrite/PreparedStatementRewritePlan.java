@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.NumberLiteralPaginationValueSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.ParameterMarkerPaginationValueSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.rewrite.builder.SQLBuilder;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.util.List;
+
+/**
+ * Rewrite plan for prepared statement.
+ *
+ * <p>
+ * SQL tokens of prepared statement are decided by SQL only, unless insert values, encrypt columns or revised row count are rewritten.
+ * For this case, SQL builder is created at first execution of single or multiple routing and reused for the following executions,
+ * only parameters are rebuilt for every execution.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class PreparedStatementRewritePlan {
+    
+    private final ShardingRule shardingRule;
+    
+    private Boolean reusable;
+    
+    private SQLBuilder singleRoutingSQLBuilder;
+    
+    private SQLBuilder multipleRoutingSQLBuilder;
+    
+    /**
+     * Create SQL rewrite engine.
+     *
+     * @param sqlRouteResult SQL route result
+     * @param parameters parameters of SQL placeholder
+     * @return SQL rewrite engine
+     */
+    public SQLRewriteEngine createRewriteEngine(final SQLRouteResult sqlRouteResult, final List<Object> parameters) {
+        boolean isSingleRoute = sqlRouteResult.getRoutingResult().isSingleRouting();
+        if (!isReusable(sqlRouteResult.getOptimizedStatement().getSQLStatement())) {
+            return new SQLRewriteEngine(shardingRule, sqlRouteResult, parameters, isSingleRoute);
+        }
+        SQLBuilder sqlBuilder = isSingleRoute ? singleRoutingSQLBuilder : multipleRoutingSQLBuilder;
+        if (null != sqlBuilder) {
+            return new SQLRewriteEngine(shardingRule, sqlRouteResult, parameters, sqlBuilder);
+        }
+        SQLRewriteEngine result = new SQLRewriteEngine(shardingRule, sqlRouteResult, parameters, isSingleRoute);
+        if (isSingleRoute) {
+            singleRoutingSQLBuilder = result.getSqlBuilder();
+        } else {
+            multipleRoutingSQLBuilder = result.getSqlBuilder();
+        }
+        return result;
+    }
+    
+    private boolean isReusable(final SQLStatement sqlStatement) {
+        if (null == reusable) {
+            reusable = !(sqlStatement instanceof InsertStatement) && !isEncryptTableContained(sqlStatement) && !isRevisedRowCountParameterized(sqlStatement);
+        }
+        return reusable;
+    }
+    
+    private boolean isEncryptTableContained(final SQLStatement sqlStatement) {
+        for (String each : sqlStatement.getTables().getTableNames()) {
+            for (String encryptTableName : shardingRule.getEncryptRule().getEncryptTableNames()) {
+                if (encryptTableName.equalsIgnoreCase(each)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    private boolean isRevisedRowCountParameterized(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof SelectStatement && ((SelectStatement) sqlStatement).getRowCount() instanceof NumberLiteralPaginationValueSegment
+                && ((SelectStatement) sqlStatement).getOffset() instanceof ParameterMarkerPaginationValueSegment;
+    }
+}
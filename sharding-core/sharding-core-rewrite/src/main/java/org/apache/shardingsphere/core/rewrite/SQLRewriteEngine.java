@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.rewrite;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import lombok.Getter;
 import org.apache.shardingsphere.core.optimize.statement.InsertOptimizedStatement;
 import org.apache.shardingsphere.core.optimize.statement.OptimizedStatement;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.InsertOptimizeResultUnit;
@@ -41,8 +42,8 @@ import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptorEngine;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -58,34 +59,38 @@ public final class SQLRewriteEngine {
     
     private final OptimizedStatement optimizedStatement;
     
-    private final List<SQLToken> sqlTokens;
-    
+    @Getter
     private final SQLBuilder sqlBuilder;
     
+    @Getter
     private final ParameterBuilder parameterBuilder;
     
     public SQLRewriteEngine(final ShardingRule shardingRule, final SQLRouteResult sqlRouteResult, final List<Object> parameters, final boolean isSingleRoute) {
         baseRule = shardingRule;
         this.optimizedStatement = getEncryptedOptimizedStatement(shardingRule.getEncryptRule().getEncryptorEngine(), sqlRouteResult.getOptimizedStatement());
         parameterBuilder = createParameterBuilder(parameters, sqlRouteResult);
-        sqlTokens = createSQLTokens(isSingleRoute);
-        sqlBuilder = new SQLBuilder(optimizedStatement.getSQLStatement().getLogicSQL(), sqlTokens);
+        sqlBuilder = new SQLBuilder(optimizedStatement.getSQLStatement().getLogicSQL(), createSQLTokens(isSingleRoute));
+    }
+    
+    public SQLRewriteEngine(final ShardingRule shardingRule, final SQLRouteResult sqlRouteResult, final List<Object> parameters, final SQLBuilder sqlBuilder) {
+        baseRule = shardingRule;
+        optimizedStatement = sqlRouteResult.getOptimizedStatement();
+        parameterBuilder = createParameterBuilder(parameters, sqlRouteResult);
+        this.sqlBuilder = sqlBuilder;
     }
     
     public SQLRewriteEngine(final EncryptRule encryptRule, final OptimizedStatement optimizedStatement, final List<Object> parameters) {
         baseRule = encryptRule;
         this.optimizedStatement = getEncryptedOptimizedStatement(encryptRule.getEncryptorEngine(), optimizedStatement);
         parameterBuilder = createParameterBuilder(parameters);
-        sqlTokens = createSQLTokens(true);
-        sqlBuilder = new SQLBuilder(optimizedStatement.getSQLStatement().getLogicSQL(), sqlTokens);
+        sqlBuilder = new SQLBuilder(optimizedStatement.getSQLStatement().getLogicSQL(), createSQLTokens(true));
     }
     
     public SQLRewriteEngine(final MasterSlaveRule masterSlaveRule, final OptimizedStatement optimizedStatement) {
         baseRule = masterSlaveRule;
         this.optimizedStatement = optimizedStatement;
         parameterBuilder = createParameterBuilder(Collections.emptyList());
-        sqlTokens = createSQLTokens(true);
-        sqlBuilder = new SQLBuilder(optimizedStatement.getSQLStatement().getLogicSQL(), sqlTokens);
+        sqlBuilder = new SQLBuilder(optimizedStatement.getSQLStatement().getLogicSQL(), createSQLTokens(true));
     }
     
     private OptimizedStatement getEncryptedOptimizedStatement(final ShardingEncryptorEngine encryptorEngine, final OptimizedStatement optimizedStatement) {
@@ -135,7 +140,7 @@ public final class SQLRewriteEngine {
     }
     
     private List<SQLToken> createSQLTokens(final boolean isSingleRoute) {
-        List<SQLToken> result = new LinkedList<>();
+        List<SQLToken> result = new ArrayList<>();
         result.addAll(new BaseTokenGenerateEngine().generateSQLTokens(optimizedStatement, parameterBuilder, baseRule, isSingleRoute));
         if (baseRule instanceof ShardingRule) {
             ShardingRule shardingRule = (ShardingRule) baseRule;
@@ -165,6 +170,6 @@ public final class SQLRewriteEngine {
      * @return sql unit
      */
     public SQLUnit generateSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        return new SQLUnit(sqlBuilder.toSQL(routingUnit, logicAndActualTables), parameterBuilder.getParameters(routingUnit));
+        return sqlBuilder.toSQLUnit(routingUnit, logicAndActualTables, parameterBuilder.getParameters(routingUnit));
     }
 }
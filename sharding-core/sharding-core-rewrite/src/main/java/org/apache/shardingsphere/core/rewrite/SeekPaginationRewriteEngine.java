@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.Pagination;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.SeekPagination;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.NumberLiteralPaginationValueSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.rewrite.builder.SQLBuilder;
+import org.apache.shardingsphere.core.rewrite.token.pojo.LeftBracketToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.OffsetToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.RowCountToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.SeekConditionToken;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL rewrite engine for seek pagination.
+ *
+ * <p>
+ * Seek condition values are bound as parameters appended before pagination parameters if parameterized,
+ * otherwise they are rendered as literals for statements without parameters.
+ * </p>
+ */
+public final class SeekPaginationRewriteEngine {
+    
+    private static final int WHERE_KEYWORD_LENGTH = "WHERE".length();
+    
+    private final SeekPagination seekPagination;
+    
+    private final SelectStatement selectStatement;
+    
+    private final Pagination pagination;
+    
+    private final SQLRewriteEngine rewriteEngine;
+    
+    private final List<SQLToken> sqlTokens;
+    
+    private final boolean parameterized;
+    
+    public SeekPaginationRewriteEngine(final ShardingRule shardingRule, final SQLRouteResult sqlRouteResult, 
+                                       final List<Object> parameters, final SeekPagination seekPagination, final boolean parameterized) {
+        this.seekPagination = seekPagination;
+        this.parameterized = parameterized;
+        selectStatement = ((ShardingSelectOptimizedStatement) sqlRouteResult.getOptimizedStatement()).getSelectStatement();
+        pagination = ((ShardingSelectOptimizedStatement) sqlRouteResult.getOptimizedStatement()).getPagination();
+        rewriteEngine = new SQLRewriteEngine(shardingRule, sqlRouteResult, parameters, false);
+        sqlTokens = getSQLTokensWithoutPagination(rewriteEngine.getSqlBuilder().getSqlTokens());
+    }
+    
+    private List<SQLToken> getSQLTokensWithoutPagination(final Collection<SQLToken> sqlTokens) {
+        List<SQLToken> result = new LinkedList<>();
+        for (SQLToken each : sqlTokens) {
+            if (!(each instanceof OffsetToken) && !(each instanceof RowCountToken)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Generate SQL to probe boundary of shard.
+     *
+     * @param routingUnit routing unit
+     * @return SQL unit
+     */
+    public SQLUnit generateProbeSQL(final RoutingUnit routingUnit) {
+        return generateSQL(routingUnit, seekPagination.getProbeOffset(), seekPagination.getRowCount(), Collections.<SQLToken>emptyList(), Collections.emptyList());
+    }
+    
+    /**
+     * Generate SQL to query rows from seek value to boundary value of shard.
+     *
+     * @param routingUnit routing unit
+     * @param seekValue seek value, included
+     * @param boundaryValue boundary value of shard, excluded
+     * @return SQL unit
+     */
+    public SQLUnit generateRangeSQL(final RoutingUnit routingUnit, final Number seekValue, final Number boundaryValue) {
+        return generateSQL(routingUnit, 0, seekPagination.getProbeOffset(), createSeekConditionTokens(seekValue, boundaryValue), 
+                parameterized ? Arrays.<Object>asList(seekValue, boundaryValue) : Collections.emptyList());
+    }
+    
+    private Collection<SQLToken> createSeekConditionTokens(final Number seekValue, final Number boundaryValue) {
+        Collection<SQLToken> result = new LinkedList<>();
+        Optional<WhereSegment> whereSegment = selectStatement.findSQLSegment(WhereSegment.class);
+        if (whereSegment.isPresent() && 0 != whereSegment.get().getStopIndex()) {
+            result.add(new LeftBracketToken(whereSegment.get().getStartIndex() + WHERE_KEYWORD_LENGTH));
+            result.add(new SeekConditionToken(
+                    whereSegment.get().getStopIndex() + 1, seekPagination.getColumnName(), seekPagination.getOrderDirection(), seekValue, boundaryValue, true, parameterized));
+        } else {
+            result.add(new SeekConditionToken(selectStatement.findSQLSegment(OrderBySegment.class).get().getStartIndex(), 
+                    seekPagination.getColumnName(), seekPagination.getOrderDirection(), seekValue, boundaryValue, false, parameterized));
+        }
+        return result;
+    }
+    
+    private SQLUnit generateSQL(final RoutingUnit routingUnit, final int offset, final int rowCount, final Collection<SQLToken> seekConditionTokens, final List<Object> seekConditionParameters) {
+        List<SQLToken> sqlTokens = new ArrayList<>(this.sqlTokens);
+        sqlTokens.addAll(seekConditionTokens);
+        if (selectStatement.getOffset() instanceof NumberLiteralPaginationValueSegment) {
+            sqlTokens.add(new OffsetToken(selectStatement.getOffset().getStartIndex(), selectStatement.getOffset().getStopIndex(), offset));
+        }
+        if (selectStatement.getRowCount() instanceof NumberLiteralPaginationValueSegment) {
+            sqlTokens.add(new RowCountToken(selectStatement.getRowCount().getStartIndex(), selectStatement.getRowCount().getStopIndex(), rowCount));
+        }
+        Collections.sort(sqlTokens);
+        return new SQLUnit(new SQLBuilder(selectStatement.getLogicSQL(), sqlTokens).toSQL(routingUnit, getLogicAndActualTables(routingUnit)), 
+                getParameters(routingUnit, offset, rowCount, seekConditionParameters));
+    }
+    
+    private List<Object> getParameters(final RoutingUnit routingUnit, final int offset, final int rowCount, final List<Object> seekConditionParameters) {
+        List<Object> result = new ArrayList<>(rewriteEngine.getParameterBuilder().getParameters(routingUnit));
+        int seekConditionParameterIndex = result.size();
+        if (pagination.getOffsetParameterIndex().isPresent()) {
+            result.set(pagination.getOffsetParameterIndex().get(), offset);
+            seekConditionParameterIndex = Math.min(seekConditionParameterIndex, pagination.getOffsetParameterIndex().get());
+        }
+        if (pagination.getRowCountParameterIndex().isPresent()) {
+            result.set(pagination.getRowCountParameterIndex().get(), rowCount);
+            seekConditionParameterIndex = Math.min(seekConditionParameterIndex, pagination.getRowCountParameterIndex().get());
+        }
+        result.addAll(seekConditionParameterIndex, seekConditionParameters);
+        return result;
+    }
+    
+    private Map<String, String> getLogicAndActualTables(final RoutingUnit routingUnit) {
+        Map<String, String> result = new HashMap<>();
+        for (TableUnit each : routingUnit.getTableUnits()) {
+            result.put(each.getLogicTableName().toLowerCase(), each.getActualTableName());
+        }
+        return result;
+    }
+}
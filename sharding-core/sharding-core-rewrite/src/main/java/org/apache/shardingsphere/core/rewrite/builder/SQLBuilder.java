@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.core.rewrite.builder;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.rewrite.token.pojo.Alterable;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InsertValuesToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.Substitutable;
+import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +34,12 @@ import java.util.Map;
 /**
  * SQL builder.
  *
+ * <p>
+ * SQL is split once into static fragments and slots of alterable tokens,
+ * static fragments include literals between SQL tokens and SQL tokens which are same for all routing units,
+ * so building SQL for every routing unit only fills slots.
+ * </p>
+ *
  * @author gaohongtao
  * @author zhangliang
  * @author maxiaoguang
@@ -40,8 +50,15 @@ public final class SQLBuilder {
     
     private final String logicSQL;
     
+    @Getter
     private final List<SQLToken> sqlTokens;
     
+    private String[] fragments;
+    
+    private Alterable[] slots;
+    
+    private int fragmentsLength;
+    
     /**
      * Convert to SQL.
      *
@@ -59,30 +76,80 @@ public final class SQLBuilder {
      * @return SQL
      */
     public String toSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
+        return toSQLUnit(routingUnit, logicAndActualTables, Collections.emptyList()).getSql();
+    }
+    
+    /**
+     * Convert to SQL unit.
+     *
+     * <p>
+     * Range of rewritten insert values is kept in SQL unit, so insert values can be repeated for batch.
+     * </p>
+     *
+     * @param routingUnit routing unit
+     * @param logicAndActualTables logic and actual map
+     * @param parameters parameters
+     * @return SQL unit
+     */
+    public SQLUnit toSQLUnit(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables, final List<Object> parameters) {
         if (sqlTokens.isEmpty()) {
-            return logicSQL;
+            return new SQLUnit(logicSQL, parameters);
+        }
+        if (null == fragments) {
+            splitFragments();
+        }
+        if (0 == slots.length) {
+            return new SQLUnit(fragments[0], parameters);
         }
-        return createLogicSQL(routingUnit, logicAndActualTables);
+        return fillSlots(routingUnit, logicAndActualTables, parameters);
     }
     
-    private String createLogicSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        StringBuilder result = new StringBuilder();
-        result.append(logicSQL.substring(0, sqlTokens.get(0).getStartIndex()));
+    private void splitFragments() {
+        List<String> fragmentList = new ArrayList<>();
+        List<Alterable> slotList = new ArrayList<>();
+        StringBuilder fragment = new StringBuilder(logicSQL.length());
+        fragment.append(logicSQL, 0, sqlTokens.get(0).getStartIndex());
+        int count = 0;
         for (SQLToken each : sqlTokens) {
-            result.append(getSQLTokenLiterals(each, routingUnit, logicAndActualTables));
-            result.append(getConjunctionLiterals(each));
+            if (each instanceof Alterable) {
+                fragmentList.add(fragment.toString());
+                slotList.add((Alterable) each);
+                fragment.setLength(0);
+            } else {
+                fragment.append(each.toString());
+            }
+            int startIndex = Math.min(getStartIndex(each), logicSQL.length());
+            int stopIndex = sqlTokens.size() - 1 == count ? logicSQL.length() : sqlTokens.get(count + 1).getStartIndex();
+            if (startIndex < stopIndex) {
+                fragment.append(logicSQL, startIndex, stopIndex);
+            }
+            count++;
+        }
+        fragmentList.add(fragment.toString());
+        fragments = fragmentList.toArray(new String[fragmentList.size()]);
+        slots = slotList.toArray(new Alterable[slotList.size()]);
+        for (String each : fragments) {
+            fragmentsLength += each.length();
         }
-        return result.toString();
-    }
-    
-    private String getSQLTokenLiterals(final SQLToken sqlToken, final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        return sqlToken instanceof Alterable ? ((Alterable) sqlToken).toString(routingUnit, logicAndActualTables) : sqlToken.toString();
     }
     
-    private String getConjunctionLiterals(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
-        int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? logicSQL.length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
-        return logicSQL.substring(getStartIndex(sqlToken) > logicSQL.length() ? logicSQL.length() : getStartIndex(sqlToken), stopIndex);
+    private SQLUnit fillSlots(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables, final List<Object> parameters) {
+        StringBuilder result = new StringBuilder(fragmentsLength + slots.length * 16);
+        int insertValuesStartIndex = -1;
+        int insertValuesStopIndex = -1;
+        result.append(fragments[0]);
+        for (int i = 0; i < slots.length; i++) {
+            boolean isInsertValues = slots[i] instanceof InsertValuesToken;
+            if (isInsertValues) {
+                insertValuesStartIndex = result.length();
+            }
+            result.append(slots[i].toString(routingUnit, logicAndActualTables));
+            if (isInsertValues) {
+                insertValuesStopIndex = result.length();
+            }
+            result.append(fragments[i + 1]);
+        }
+        return new SQLUnit(result.toString(), parameters, insertValuesStartIndex, insertValuesStopIndex);
     }
     
     private int getStartIndex(final SQLToken sqlToken) {
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.pojo;
+
+import lombok.Getter;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+
+import java.math.BigDecimal;
+
+/**
+ * Seek condition token.
+ *
+ * <p>
+ * Condition of rows from seek value (included) to boundary value (excluded) in order direction.
+ * Original where clause should be surrounded by brackets if exists.
+ * Values are rendered as parameter markers if parameterized, otherwise as literals.
+ * </p>
+ */
+@Getter
+public final class SeekConditionToken extends SQLToken implements Attachable {
+    
+    private final String columnName;
+    
+    private final OrderDirection orderDirection;
+    
+    private final Number seekValue;
+    
+    private final Number boundaryValue;
+    
+    private final boolean whereClauseExisted;
+    
+    private final boolean parameterized;
+    
+    public SeekConditionToken(final int startIndex, final String columnName, final OrderDirection orderDirection, 
+                              final Number seekValue, final Number boundaryValue, final boolean whereClauseExisted, final boolean parameterized) {
+        super(startIndex);
+        this.columnName = columnName;
+        this.orderDirection = orderDirection;
+        this.seekValue = seekValue;
+        this.boundaryValue = boundaryValue;
+        this.whereClauseExisted = whereClauseExisted;
+        this.parameterized = parameterized;
+    }
+    
+    @Override
+    public String toString() {
+        boolean isAsc = OrderDirection.ASC == orderDirection;
+        String condition = String.format("%s %s %s AND %s %s %s", columnName, isAsc ? ">=" : "<=", toSQLValue(seekValue), columnName, isAsc ? "<" : ">", toSQLValue(boundaryValue));
+        return whereClauseExisted ? ") AND " + condition : "WHERE " + condition + " ";
+    }
+    
+    private String toSQLValue(final Number value) {
+        if (parameterized) {
+            return "?";
+        }
+        return value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.groupby.GroupBy;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderBy;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.Pagination;
+import org.apache.shardingsphere.core.parse.sql.context.condition.AndCondition;
+import org.apache.shardingsphere.core.parse.sql.segment.common.TableSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.PaginationValueSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.yaml.config.sharding.YamlRootShardingConfiguration;
+import org.apache.shardingsphere.core.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.core.yaml.swapper.impl.ShardingRuleConfigurationYamlSwapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class PreparedStatementRewritePlanTest {
+    
+    private PreparedStatementRewritePlan rewritePlan;
+    
+    private SelectStatement selectStatement;
+    
+    private Map<String, String> tableTokens;
+    
+    @Before
+    public void setUp() throws IOException {
+        URL url = PreparedStatementRewritePlanTest.class.getClassLoader().getResource("yaml/rewrite-rule.yaml");
+        Preconditions.checkNotNull(url, "Cannot found rewrite rule yaml configuration.");
+        YamlRootShardingConfiguration yamlShardingConfig = YamlEngine.unmarshal(new File(url.getFile()), YamlRootShardingConfiguration.class);
+        rewritePlan = new PreparedStatementRewritePlan(
+                new ShardingRule(new ShardingRuleConfigurationYamlSwapper().swap(yamlShardingConfig.getShardingRule()), yamlShardingConfig.getDataSources().keySet()));
+        selectStatement = new SelectStatement();
+        selectStatement.getSQLSegments().add(new TableSegment(17, 23, "table_x"));
+        tableTokens = Collections.singletonMap("table_x", "table_1");
+    }
+    
+    @Test
+    public void assertCreateRewriteEngineWithReusedSQLBuilder() {
+        selectStatement.setOffset(new ParameterMarkerLimitValueSegment(33, 33, 0));
+        selectStatement.setRowCount(new ParameterMarkerLimitValueSegment(36, 36, 1));
+        selectStatement.setLogicSQL("SELECT x.id FROM table_x x LIMIT ?, ?");
+        SQLRewriteEngine firstRewriteEngine = rewritePlan.createRewriteEngine(createSQLRouteResult(Arrays.<Object>asList(2, 2)), Arrays.<Object>asList(2, 2));
+        SQLRewriteEngine secondRewriteEngine = rewritePlan.createRewriteEngine(createSQLRouteResult(Arrays.<Object>asList(4, 2)), Arrays.<Object>asList(4, 2));
+        assertThat(secondRewriteEngine.getSqlBuilder(), sameInstance(firstRewriteEngine.getSqlBuilder()));
+        assertSQLUnit(firstRewriteEngine.generateSQL(new RoutingUnit("ds"), tableTokens), "SELECT x.id FROM table_1 x LIMIT ?, ?", Arrays.<Object>asList(0, 4));
+        assertSQLUnit(secondRewriteEngine.generateSQL(new RoutingUnit("ds"), tableTokens), "SELECT x.id FROM table_1 x LIMIT ?, ?", Arrays.<Object>asList(0, 6));
+    }
+    
+    @Test
+    public void assertCreateRewriteEngineWithParameterizedRevisedRowCount() {
+        selectStatement.setOffset(new ParameterMarkerLimitValueSegment(33, 33, 0));
+        selectStatement.setRowCount(new NumberLiteralLimitValueSegment(36, 36, 2));
+        selectStatement.setLogicSQL("SELECT x.id FROM table_x x LIMIT ?, 2");
+        SQLRewriteEngine firstRewriteEngine = rewritePlan.createRewriteEngine(createSQLRouteResult(Collections.<Object>singletonList(2)), Collections.<Object>singletonList(2));
+        SQLRewriteEngine secondRewriteEngine = rewritePlan.createRewriteEngine(createSQLRouteResult(Collections.<Object>singletonList(4)), Collections.<Object>singletonList(4));
+        assertThat(secondRewriteEngine.getSqlBuilder(), not(sameInstance(firstRewriteEngine.getSqlBuilder())));
+        assertSQLUnit(firstRewriteEngine.generateSQL(new RoutingUnit("ds"), tableTokens), "SELECT x.id FROM table_1 x LIMIT ?, 4", Collections.<Object>singletonList(0));
+        assertSQLUnit(secondRewriteEngine.generateSQL(new RoutingUnit("ds"), tableTokens), "SELECT x.id FROM table_1 x LIMIT ?, 6", Collections.<Object>singletonList(0));
+    }
+    
+    private SQLRouteResult createSQLRouteResult(final List<Object> parameters) {
+        PaginationValueSegment offsetSegment = selectStatement.getOffset();
+        PaginationValueSegment rowCountSegment = selectStatement.getRowCount();
+        SQLRouteResult result = new SQLRouteResult(new ShardingSelectOptimizedStatement(selectStatement, Collections.<ShardingCondition>emptyList(), new AndCondition(),
+                selectStatement.getItems(), new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false),
+                new Pagination(offsetSegment, rowCountSegment, parameters)));
+        result.setRoutingResult(new RoutingResult());
+        return result;
+    }
+    
+    private void assertSQLUnit(final SQLUnit actual, final String expectedSQL, final List<Object> expectedParameters) {
+        assertThat(actual.getSql(), is(expectedSQL));
+        assertThat(actual.getParameters(), is(expectedParameters));
+    }
+}
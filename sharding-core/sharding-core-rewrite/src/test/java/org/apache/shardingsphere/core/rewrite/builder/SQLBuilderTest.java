@@ -18,11 +18,19 @@
 package org.apache.shardingsphere.core.rewrite.builder;
 
 import org.apache.shardingsphere.core.parse.constant.QuoteCharacter;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InsertValueToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InsertValuesToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.RemoveToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.TableToken;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -50,4 +58,32 @@ public final class SQLBuilderTest {
     public void assertToSQLWithTokens() {
         assertThat(sqlBuilderWithTokens.toSQL(null, Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0 WHERE order_id > 1"));
     }
+    
+    @Test
+    public void assertToSQLWithStaticAndAlterableTokens() {
+        SQLBuilder sqlBuilder = new SQLBuilder("SELECT * FROM t_order o JOIN t_order_item i WHERE o.order_id > 1", 
+                Arrays.<SQLToken>asList(new TableToken(14, 20, "t_order", QuoteCharacter.NONE), new RemoveToken(22, 23), new TableToken(29, 40, "t_order_item", QuoteCharacter.NONE)));
+        assertThat(sqlBuilder.toSQL(null, Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0 JOIN t_order_item i WHERE o.order_id > 1"));
+        assertThat(sqlBuilder.toSQL(null, Collections.singletonMap("t_order_item", "t_order_item_1")), is("SELECT * FROM t_order JOIN t_order_item_1 i WHERE o.order_id > 1"));
+    }
+    
+    @Test
+    public void assertToSQLUnitWithInsertValuesToken() {
+        InsertValueToken insertValueToken = new InsertValueToken(
+                Collections.singletonList("order_id"), Collections.<ExpressionSegment>singletonList(new ParameterMarkerExpressionSegment(38, 38, 0)), Collections.<DataNode>emptyList());
+        SQLBuilder sqlBuilder = new SQLBuilder("INSERT INTO t_order (order_id) VALUES (?) ON DUPLICATE KEY UPDATE order_id = 1", 
+                Arrays.<SQLToken>asList(new TableToken(12, 18, "t_order", QuoteCharacter.NONE), new InsertValuesToken(38, 40, Collections.singletonList(insertValueToken))));
+        SQLUnit actual = sqlBuilder.toSQLUnit(null, Collections.singletonMap("t_order", "t_order_0"), Collections.<Object>singletonList(1));
+        assertThat(actual.getSql(), is("INSERT INTO t_order_0 (order_id) VALUES (?) ON DUPLICATE KEY UPDATE order_id = 1"));
+        assertThat(actual.getSql().substring(actual.getInsertValuesStartIndex(), actual.getInsertValuesStopIndex()), is("(?)"));
+        assertThat(actual.getParameters(), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test
+    public void assertToSQLUnitWithoutInsertValuesToken() {
+        SQLUnit actual = sqlBuilderWithTokens.toSQLUnit(null, Collections.singletonMap("t_order", "t_order_0"), Collections.emptyList());
+        assertThat(actual.getSql(), is("SELECT * FROM t_order_0 WHERE order_id > 1"));
+        assertThat(actual.getInsertValuesStartIndex(), is(-1));
+        assertThat(actual.getInsertValuesStopIndex(), is(-1));
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.rewrite.token;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.rewrite.token.pojo.SeekConditionToken;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SeekConditionTokenTest {
+    
+    @Test
+    public void assertToStringWithParameterizedAndWhereClauseExisted() {
+        SeekConditionToken seekConditionToken = new SeekConditionToken(0, "item_id", OrderDirection.ASC, 10, 20, true, true);
+        assertThat(seekConditionToken.toString(), is(") AND item_id >= ? AND item_id < ?"));
+    }
+    
+    @Test
+    public void assertToStringWithParameterizedAndWithoutWhereClause() {
+        SeekConditionToken seekConditionToken = new SeekConditionToken(0, "item_id", OrderDirection.DESC, 20, 10, false, true);
+        assertThat(seekConditionToken.toString(), is("WHERE item_id <= ? AND item_id > ? "));
+    }
+    
+    @Test
+    public void assertToStringWithoutParameterized() {
+        SeekConditionToken seekConditionToken = new SeekConditionToken(0, "item_id", OrderDirection.ASC, new BigDecimal("1E+1"), 20L, false, false);
+        assertThat(seekConditionToken.toString(), is("WHERE item_id >= 10 AND item_id < 20 "));
+    }
+}
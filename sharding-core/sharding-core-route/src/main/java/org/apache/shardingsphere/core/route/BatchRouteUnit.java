@@ -23,6 +23,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -59,6 +60,18 @@ public final class BatchRouteUnit {
         jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
     }
     
+    /**
+     * Map times of use JDBC API call addBatch to one actual call addBatch which merges rows of them.
+     *
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch merged into one actual call addBatch
+     */
+    public void mapAddBatchCount(final Collection<Integer> jdbcAddBatchTimes) {
+        for (int each : jdbcAddBatchTimes) {
+            jdbcAndActualAddBatchCallTimesMap.put(each, actualCallAddBatchTimes);
+        }
+        actualCallAddBatchTimes++;
+    }
+    
     /**
      * Get parameter sets.
      * 
@@ -19,7 +19,6 @@ package org.apache.shardingsphere.core.route;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.List;
@@ -30,7 +29,6 @@ import java.util.List;
  * @author maxiaoguang
  * @author panjuan
  */
-@RequiredArgsConstructor
 @Getter
 @EqualsAndHashCode(of = { "sql" })
 @ToString
@@ -39,4 +37,27 @@ public final class SQLUnit {
     private final String sql;
     
     private final List<Object> parameters;
+    
+    private final int insertValuesStartIndex;
+    
+    private final int insertValuesStopIndex;
+    
+    public SQLUnit(final String sql, final List<Object> parameters) {
+        this(sql, parameters, -1, -1);
+    }
+    
+    /**
+     * Constructor of SQL unit with range of rewritten insert values.
+     *
+     * @param sql SQL
+     * @param parameters parameters
+     * @param insertValuesStartIndex start index of insert values in SQL, -1 if insert values are not rewritten
+     * @param insertValuesStopIndex stop index of insert values in SQL, exclusive, -1 if insert values are not rewritten
+     */
+    public SQLUnit(final String sql, final List<Object> parameters, final int insertValuesStartIndex, final int insertValuesStopIndex) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.insertValuesStartIndex = insertValuesStartIndex;
+        this.insertValuesStopIndex = insertValuesStopIndex;
+    }
 }
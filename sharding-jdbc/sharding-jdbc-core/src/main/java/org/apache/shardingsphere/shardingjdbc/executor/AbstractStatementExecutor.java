@@ -104,7 +104,7 @@ public class AbstractStatementExecutor {
         this.connection = shardingConnection;
         int maxConnectionsSizePerQuery = connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
         ShardingExecuteEngine executeEngine = connection.getShardingContext().getExecuteEngine();
-        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, connection.getShardingContext().getConnectionBudget());
         sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine, connection.isSerialExecute());
     }
     
@@ -145,6 +145,7 @@ public class AbstractStatementExecutor {
      */
     public void clear() throws SQLException {
         clearStatements();
+        sqlExecutePrepareTemplate.releaseConnectionBudget();
         statements.clear();
         parameterSets.clear();
         connections.clear();
@@ -152,6 +153,13 @@ public class AbstractStatementExecutor {
         executeGroups.clear();
     }
     
+    /**
+     * Release connection budget acquired by statements.
+     */
+    public void releaseConnectionBudget() {
+        sqlExecutePrepareTemplate.releaseConnectionBudget();
+    }
+    
     private void clearStatements() throws SQLException {
         for (Statement each : getStatements()) {
             each.close();
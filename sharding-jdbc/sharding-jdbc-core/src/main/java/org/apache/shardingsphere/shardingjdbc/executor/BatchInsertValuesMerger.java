@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor;
+
+import com.google.common.base.Joiner;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.route.BatchRouteUnit;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLUnit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Merger to merge batched single row inserts into multiple values inserts.
+ *
+ * <p>
+ * Insert values rewritten from insert optimize result are repeated for every batched row,
+ * route units without rewritten insert values or with parameter markers outside insert values are kept as they are.
+ * </p>
+ */
+@RequiredArgsConstructor
+final class BatchInsertValuesMerger {
+    
+    private final int maxRows;
+    
+    /**
+     * Merge batch route units.
+     *
+     * @param batchRouteUnits batch route units to be merged
+     * @param mergedRowsCounts rows counts of every merged route unit, to be filled
+     * @return merged batch route units
+     */
+    Map<RouteUnit, BatchRouteUnit> merge(final Map<RouteUnit, BatchRouteUnit> batchRouteUnits, final Map<RouteUnit, Integer> mergedRowsCounts) {
+        Map<RouteUnit, BatchRouteUnit> result = new LinkedHashMap<>(batchRouteUnits.size(), 1);
+        for (Entry<RouteUnit, BatchRouteUnit> entry : batchRouteUnits.entrySet()) {
+            if (!merge(entry.getValue(), result, mergedRowsCounts)) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+    
+    private boolean merge(final BatchRouteUnit batchRouteUnit, final Map<RouteUnit, BatchRouteUnit> result, final Map<RouteUnit, Integer> mergedRowsCounts) {
+        SQLUnit sqlUnit = batchRouteUnit.getRouteUnit().getSqlUnit();
+        List<Integer> jdbcAddBatchTimes = new ArrayList<>(batchRouteUnit.getJdbcAndActualAddBatchCallTimesMap().keySet());
+        int rowCount = jdbcAddBatchTimes.size();
+        if (rowCount < 2 || 0 != sqlUnit.getParameters().size() % rowCount) {
+            return false;
+        }
+        if (-1 == sqlUnit.getInsertValuesStartIndex()) {
+            return false;
+        }
+        int parametersCountPerRow = sqlUnit.getParameters().size() / rowCount;
+        String prefix = sqlUnit.getSql().substring(0, sqlUnit.getInsertValuesStartIndex());
+        String values = sqlUnit.getSql().substring(sqlUnit.getInsertValuesStartIndex(), sqlUnit.getInsertValuesStopIndex());
+        String suffix = sqlUnit.getSql().substring(sqlUnit.getInsertValuesStopIndex());
+        if (parametersCountPerRow != getParameterMarkersCount(values) || 0 != getParameterMarkersCount(prefix) || 0 != getParameterMarkersCount(suffix)) {
+            return false;
+        }
+        Map<Integer, String> mergedSQLs = new HashMap<>(2, 1);
+        for (int start = 0; start < rowCount; start += maxRows) {
+            int rows = Math.min(maxRows, rowCount - start);
+            String mergedSQL = mergedSQLs.get(rows);
+            if (null == mergedSQL) {
+                mergedSQL = prefix + Joiner.on(", ").join(Collections.nCopies(rows, values)) + suffix;
+                mergedSQLs.put(rows, mergedSQL);
+            }
+            RouteUnit routeUnit = new RouteUnit(batchRouteUnit.getRouteUnit().getDataSourceName(), new SQLUnit(mergedSQL, new ArrayList<>()));
+            BatchRouteUnit mergedBatchRouteUnit = result.get(routeUnit);
+            if (null == mergedBatchRouteUnit) {
+                mergedBatchRouteUnit = new BatchRouteUnit(routeUnit);
+                result.put(routeUnit, mergedBatchRouteUnit);
+                mergedRowsCounts.put(routeUnit, rows);
+            }
+            mergedBatchRouteUnit.getRouteUnit().getSqlUnit().getParameters().addAll(sqlUnit.getParameters().subList(start * parametersCountPerRow, (start + rows) * parametersCountPerRow));
+            mergedBatchRouteUnit.mapAddBatchCount(jdbcAddBatchTimes.subList(start, start + rows));
+        }
+        return true;
+    }
+    
+    private int getParameterMarkersCount(final String sql) {
+        int result = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            if ('?' == sql.charAt(i)) {
+                result++;
+            }
+        }
+        return result;
+    }
+}
@@ -20,19 +20,25 @@ package org.apache.shardingsphere.shardingjdbc.executor;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
-import com.google.common.collect.Collections2;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareCallback;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.route.BatchRouteUnit;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.spi.database.H2DatabaseType;
+import org.apache.shardingsphere.core.spi.database.MySQLDatabaseType;
+import org.apache.shardingsphere.core.spi.database.PostgreSQLDatabaseType;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 
 import java.sql.Connection;
@@ -41,6 +47,8 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -55,17 +63,22 @@ import java.util.Map.Entry;
  */
 public final class BatchPreparedStatementExecutor extends AbstractStatementExecutor {
     
-    private final Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+    private final Map<RouteUnit, BatchRouteUnit> routeUnits = new LinkedHashMap<>();
+    
+    private final Map<RouteUnit, Integer> mergedRowsCounts = new HashMap<>();
     
     @Getter
     private final boolean returnGeneratedKeys;
     
+    private final int insertMergeMaxRows;
+    
     private int batchCount;
     
     public BatchPreparedStatementExecutor(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final boolean returnGeneratedKeys,
                                           final ShardingConnection shardingConnection) {
         super(resultSetType, resultSetConcurrency, resultSetHoldability, shardingConnection);
         this.returnGeneratedKeys = returnGeneratedKeys;
+        insertMergeMaxRows = shardingConnection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.BATCH_INSERT_MERGE_MAX_ROWS);
     }
     
     /**
@@ -76,17 +89,24 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      */
     public void init(final SQLRouteResult routeResult) throws SQLException {
         setSqlStatement(routeResult.getOptimizedStatement().getSQLStatement());
-        getExecuteGroups().addAll(obtainExecuteGroups(routeUnits));
+        if (isInsertMergeable(routeResult.getOptimizedStatement().getSQLStatement())) {
+            Map<RouteUnit, BatchRouteUnit> mergedRouteUnits = new BatchInsertValuesMerger(insertMergeMaxRows).merge(routeUnits, mergedRowsCounts);
+            routeUnits.clear();
+            routeUnits.putAll(mergedRouteUnits);
+        }
+        getExecuteGroups().addAll(obtainExecuteGroups(routeUnits.keySet()));
+    }
+    
+    private boolean isInsertMergeable(final SQLStatement sqlStatement) {
+        return insertMergeMaxRows > 1 && sqlStatement instanceof InsertStatement && isAccumulate() && isMultipleValuesSupported();
     }
     
-    private Collection<ShardingExecuteGroup<StatementExecuteUnit>> obtainExecuteGroups(final Collection<BatchRouteUnit> routeUnits) throws SQLException {
-        return getSqlExecutePrepareTemplate().getExecuteUnitGroups(Lists.transform(new ArrayList<>(routeUnits), new Function<BatchRouteUnit, RouteUnit>() {
+    private boolean isMultipleValuesSupported() {
+        return getDatabaseType() instanceof MySQLDatabaseType || getDatabaseType() instanceof PostgreSQLDatabaseType || getDatabaseType() instanceof H2DatabaseType;
+    }
     
-            @Override
-            public RouteUnit apply(final BatchRouteUnit input) {
-                return input.getRouteUnit();
-            }
-        }), new SQLExecutePrepareCallback() {
+    private Collection<ShardingExecuteGroup<StatementExecuteUnit>> obtainExecuteGroups(final Collection<RouteUnit> routeUnits) throws SQLException {
+        return getSqlExecutePrepareTemplate().getExecuteUnitGroups(routeUnits, new SQLExecutePrepareCallback() {
             
             @Override
             public List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
@@ -109,48 +129,26 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
     /**
      * Add batch for route units.
      *
+     * <p>
+     * Route units are coalesced by data source and SQL, parameters of same route unit are appended into one parameter list.
+     * </p>
+     *
      * @param routeResult route result
      */
     public void addBatchForRouteUnits(final SQLRouteResult routeResult) {
-        handleOldRouteUnits(createBatchRouteUnits(routeResult.getRouteUnits()));
-        handleNewRouteUnits(createBatchRouteUnits(routeResult.getRouteUnits()));
-        batchCount++;
-    }
-    
-    private Collection<BatchRouteUnit> createBatchRouteUnits(final Collection<RouteUnit> routeUnits) {
-        Collection<BatchRouteUnit> result = new LinkedList<>();
-        for (RouteUnit each : routeUnits) {
-            result.add(new BatchRouteUnit(each));
-        }
-        return result;
-    }
-    
-    private void handleOldRouteUnits(final Collection<BatchRouteUnit> newRouteUnits) {
-        for (final BatchRouteUnit each : newRouteUnits) {
-            Optional<BatchRouteUnit> batchRouteUnitOptional = Iterators.tryFind(routeUnits.iterator(), new Predicate<BatchRouteUnit>() {
-                
-                @Override
-                public boolean apply(final BatchRouteUnit input) {
-                    return input.equals(each);
-                }
-            });
-            if (batchRouteUnitOptional.isPresent()) {
-                reviseBatchRouteUnit(batchRouteUnitOptional.get(), each);
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            BatchRouteUnit batchRouteUnit = routeUnits.get(each);
+            if (null == batchRouteUnit) {
+                RouteUnit routeUnit = new RouteUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), new ArrayList<>(each.getSqlUnit().getParameters()),
+                        each.getSqlUnit().getInsertValuesStartIndex(), each.getSqlUnit().getInsertValuesStopIndex()));
+                batchRouteUnit = new BatchRouteUnit(routeUnit);
+                routeUnits.put(routeUnit, batchRouteUnit);
+            } else {
+                batchRouteUnit.getRouteUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
             }
+            batchRouteUnit.mapAddBatchCount(batchCount);
         }
-    }
-    
-    private void reviseBatchRouteUnit(final BatchRouteUnit oldBatchRouteUnit, final BatchRouteUnit newBatchRouteUnit) {
-        oldBatchRouteUnit.getRouteUnit().getSqlUnit().getParameters().addAll(newBatchRouteUnit.getRouteUnit().getSqlUnit().getParameters());
-        oldBatchRouteUnit.mapAddBatchCount(batchCount);
-    }
-    
-    private void handleNewRouteUnits(final Collection<BatchRouteUnit> newRouteUnits) {
-        newRouteUnits.removeAll(routeUnits);
-        for (BatchRouteUnit each : newRouteUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        routeUnits.addAll(newRouteUnits);
+        batchCount++;
     }
     
     /**
@@ -181,16 +179,11 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         int count = 0;
         for (ShardingExecuteGroup<StatementExecuteUnit> each : getExecuteGroups()) {
             for (StatementExecuteUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = null;
-                for (BatchRouteUnit eachRouteUnit : routeUnits) {
-                    if (eachRouteUnit.getRouteUnit().equals(eachUnit.getRouteUnit())) {
-                        jdbcAndActualAddBatchCallTimesMap = eachRouteUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
-                }
+                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = routeUnits.get(eachUnit.getRouteUnit()).getJdbcAndActualAddBatchCallTimesMap();
+                Integer mergedRowsCount = mergedRowsCounts.get(eachUnit.getRouteUnit());
                 for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
                     int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
-                    result[entry.getKey()] += value;
+                    result[entry.getKey()] += null == mergedRowsCount ? value : getMergedRowUpdateCount(value, mergedRowsCount);
                 }
                 count++;
             }
@@ -198,6 +191,10 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         return result;
     }
     
+    private int getMergedRowUpdateCount(final int mergedUpdateCount, final int mergedRowsCount) {
+        return mergedUpdateCount == mergedRowsCount ? 1 : Statement.SUCCESS_NO_INFO;
+    }
+    
     /**
      * Get statements.
      *
@@ -247,15 +244,7 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
     }
     
     private List<List<Object>> getParameterSets(final StatementExecuteUnit executeUnit) {
-        List<List<Object>> result;
-        result = Collections2.filter(routeUnits, new Predicate<BatchRouteUnit>() {
-
-            @Override
-            public boolean apply(final BatchRouteUnit input) {
-                return input.getRouteUnit().equals(executeUnit.getRouteUnit());
-            }
-        }).iterator().next().getParameterSets();
-        return result;
+        return routeUnits.get(executeUnit.getRouteUnit()).getParameterSets();
     }
     
     @Override
@@ -263,6 +252,7 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         super.clear();
         batchCount = 0;
         routeUnits.clear();
+        mergedRowsCounts.clear();
     }
 }
 
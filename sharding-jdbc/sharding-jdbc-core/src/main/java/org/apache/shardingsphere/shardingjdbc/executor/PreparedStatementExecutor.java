@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingjdbc.executor;
 
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
@@ -114,9 +115,10 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
         PreparedStatement preparedStatement = (PreparedStatement) statement;
         ResultSet resultSet = preparedStatement.executeQuery();
         ShardingRule shardingRule = getConnection().getShardingContext().getShardingRule();
+        long maxMemoryBytes = getConnection().getShardingContext().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.MEMORY_QUERY_RESULT_MAX_BYTES);
         getResultSets().add(resultSet);
         return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new StreamQueryResult(resultSet, shardingRule) 
-                : new MemoryQueryResult(resultSet, shardingRule);
+                : new MemoryQueryResult(resultSet, shardingRule, maxMemoryBytes);
     }
     
     /**
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.pagination.SeekPaginationMerger;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.pagination.SeekPagination;
+import org.apache.shardingsphere.core.rewrite.SeekPaginationRewriteEngine;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLLogger;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executor for seek pagination.
+ *
+ * <p>
+ * Query results are returned in order of route units grouped by data source,
+ * so routing units are grouped by data source at first to match query results with shards.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SeekPaginationExecutor {
+    
+    private final ShardingContext shardingContext;
+    
+    private final SQLRouteResult routeResult;
+    
+    private final List<Object> parameters;
+    
+    private final boolean parameterized;
+    
+    private final QueryCallback queryCallback;
+    
+    /**
+     * Execute query by seek pagination.
+     *
+     * @return merged result, absent if seek pagination is not available and query should be executed in normal way
+     * @throws SQLException SQL exception
+     */
+    public Optional<MergedResult> executeQuery() throws SQLException {
+        if (!(routeResult.getOptimizedStatement() instanceof ShardingSelectOptimizedStatement) || HintManager.isDatabaseShardingOnly()) {
+            return Optional.absent();
+        }
+        ShardingSelectOptimizedStatement optimizedStatement = (ShardingSelectOptimizedStatement) routeResult.getOptimizedStatement();
+        List<RoutingUnit> routingUnits = getRoutingUnits();
+        Optional<SeekPagination> seekPagination = SeekPagination.newInstance(shardingContext.getShardingRule(), optimizedStatement, 
+                routingUnits.size(), shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.SEEK_PAGINATION_MIN_OFFSET));
+        if (!seekPagination.isPresent()) {
+            return Optional.absent();
+        }
+        SeekPaginationRewriteEngine rewriteEngine = new SeekPaginationRewriteEngine(shardingContext.getShardingRule(), routeResult, parameters, seekPagination.get(), parameterized);
+        SeekPaginationMerger merger = new SeekPaginationMerger(optimizedStatement, seekPagination.get());
+        SQLRouteResult probeRouteResult = createRouteResult();
+        for (RoutingUnit each : routingUnits) {
+            probeRouteResult.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), rewriteEngine.generateProbeSQL(each)));
+        }
+        Optional<Number> seekValue = merger.probe(executeQuery(probeRouteResult));
+        if (!seekValue.isPresent()) {
+            return Optional.absent();
+        }
+        SQLRouteResult rangeRouteResult = createRouteResult();
+        List<Integer> rangeShardIndexes = new LinkedList<>();
+        for (int i = 0; i < routingUnits.size(); i++) {
+            if (merger.isRangeQueryNeeded(i)) {
+                rangeRouteResult.getRouteUnits().add(new RouteUnit(routingUnits.get(i).getDataSourceName(), 
+                        rewriteEngine.generateRangeSQL(routingUnits.get(i), seekValue.get(), merger.getBoundaryValue(i))));
+                rangeShardIndexes.add(i);
+            }
+        }
+        return merger.merge(rangeShardIndexes.isEmpty() ? new HashMap<Integer, QueryResult>() : getRangeQueryResults(rangeShardIndexes, executeQuery(rangeRouteResult)));
+    }
+    
+    private List<RoutingUnit> getRoutingUnits() {
+        Map<String, List<RoutingUnit>> routingUnitGroups = new LinkedHashMap<>();
+        for (RoutingUnit each : routeResult.getRoutingResult().getRoutingUnits()) {
+            if (!routingUnitGroups.containsKey(each.getDataSourceName())) {
+                routingUnitGroups.put(each.getDataSourceName(), new LinkedList<RoutingUnit>());
+            }
+            routingUnitGroups.get(each.getDataSourceName()).add(each);
+        }
+        List<RoutingUnit> result = new ArrayList<>();
+        for (List<RoutingUnit> each : routingUnitGroups.values()) {
+            result.addAll(each);
+        }
+        return result;
+    }
+    
+    private SQLRouteResult createRouteResult() {
+        SQLRouteResult result = new SQLRouteResult(routeResult.getOptimizedStatement());
+        result.setRoutingResult(routeResult.getRoutingResult());
+        return result;
+    }
+    
+    private List<QueryResult> executeQuery(final SQLRouteResult routeResult) throws SQLException {
+        if (shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW)) {
+            SQLLogger.logSQL(routeResult.getOptimizedStatement().getSQLStatement().getLogicSQL(), 
+                    shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SIMPLE), routeResult.getOptimizedStatement().getSQLStatement(), routeResult.getRouteUnits());
+        }
+        return queryCallback.executeQuery(routeResult);
+    }
+    
+    private Map<Integer, QueryResult> getRangeQueryResults(final List<Integer> rangeShardIndexes, final List<QueryResult> queryResults) {
+        Map<Integer, QueryResult> result = new HashMap<>(rangeShardIndexes.size(), 1);
+        for (int i = 0; i < rangeShardIndexes.size(); i++) {
+            result.put(rangeShardIndexes.get(i), queryResults.get(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Callback to execute query for route result.
+     */
+    public interface QueryCallback {
+        
+        /**
+         * Execute query.
+         *
+         * @param routeResult route result
+         * @return query results in order of route units
+         * @throws SQLException SQL exception
+         */
+        List<QueryResult> executeQuery(SQLRouteResult routeResult) throws SQLException;
+    }
+}
@@ -76,13 +76,25 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
-            
-            @Override
-            public void execute(final ResultSet resultSet) throws SQLException {
-                resultSet.close();
-            }
-        });
+        try {
+            forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
+                
+                @Override
+                public void execute(final ResultSet resultSet) throws SQLException {
+                    resultSet.close();
+                }
+            });
+        } finally {
+            closeMergedResult();
+        }
+    }
+    
+    /**
+     * Close merged result, nothing is merged by default.
+     *
+     * @throws SQLException SQL exception
+     */
+    protected void closeMergedResult() throws SQLException {
     }
     
     @Override
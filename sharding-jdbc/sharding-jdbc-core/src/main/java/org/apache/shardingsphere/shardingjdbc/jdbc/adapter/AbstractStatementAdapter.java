@@ -61,6 +61,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
             });
         } finally {
             getRoutedStatements().clear();
+            releaseConnectionBudget();
         }
     }
     
@@ -239,6 +240,12 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         });
     }
     
+    /**
+     * Release connection budget acquired by routed statements, nothing is acquired by default.
+     */
+    protected void releaseConnectionBudget() {
+    }
+    
     protected abstract boolean isAccumulate();
     
     protected abstract Collection<? extends Statement> getRoutedStatements();
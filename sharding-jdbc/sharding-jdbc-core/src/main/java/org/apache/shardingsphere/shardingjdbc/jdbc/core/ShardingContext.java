@@ -18,24 +18,37 @@
 package org.apache.shardingsphere.shardingjdbc.jdbc.core;
 
 import lombok.Getter;
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.config.DataSourceConfiguration;
+import org.apache.shardingsphere.core.config.ShardingConfigurationException;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ExecutorRejectedPolicy;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
+import org.apache.shardingsphere.core.execute.sql.prepare.ConnectionBudget;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.entry.ShardingSQLParseEntry;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
@@ -49,6 +62,8 @@ import java.util.Properties;
 @Getter
 public final class ShardingContext implements AutoCloseable {
     
+    private static final Collection<String> MAX_POOL_SIZE_PROPERTY_NAMES = Arrays.asList("maximumPoolSize", "maxTotal", "maxActive");
+    
     private final DatabaseMetaData cachedDatabaseMetaData;
     
     private final ShardingRule shardingRule;
@@ -63,17 +78,23 @@ public final class ShardingContext implements AutoCloseable {
     
     private final ParsingResultCache parsingResultCache;
     
+    private final ConnectionBudget connectionBudget;
+    
     public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final Properties props) throws SQLException {
         this.shardingRule = shardingRule;
         this.cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
         this.databaseType = databaseType;
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
         int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        executeEngine = new ShardingExecuteEngine(executorSize);
+        int executorQueueSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_QUEUE_SIZE);
+        ExecutorRejectedPolicy executorRejectedPolicy = ExecutorRejectedPolicy.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.EXECUTOR_REJECTED_POLICY).toUpperCase());
+        executeEngine = new ShardingExecuteEngine(executorSize, executorQueueSize, executorRejectedPolicy);
         ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType);
         ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData).load(shardingRule));
         metaData = new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
-        parsingResultCache = new ParsingResultCache();
+        parsingResultCache = new ParsingResultCache(shardingProperties);
+        connectionBudget = createConnectionBudget(dataSourceMap);
+        warmUpParsingResultCache();
     }
     
     private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap) throws SQLException {
@@ -102,6 +123,51 @@ public final class ShardingContext implements AutoCloseable {
                 shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED));
     }
     
+    private ConnectionBudget createConnectionBudget(final Map<String, DataSource> dataSourceMap) {
+        if (!shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CONNECTION_BUDGET_ENABLED)) {
+            return null;
+        }
+        Map<String, Integer> poolSizes = new LinkedHashMap<>(dataSourceMap.size(), 1);
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            Optional<Integer> maxPoolSize = getMaxPoolSize(entry.getValue());
+            if (maxPoolSize.isPresent()) {
+                poolSizes.put(entry.getKey(), maxPoolSize.get());
+            }
+        }
+        return new ConnectionBudget(poolSizes, shardingProperties.<Integer>getValue(ShardingPropertiesConstant.CONNECTION_BUDGET_RESERVED_SIZE));
+    }
+    
+    private Optional<Integer> getMaxPoolSize(final DataSource dataSource) {
+        Map<String, Object> properties = DataSourceConfiguration.getDataSourceConfiguration(dataSource).getProperties();
+        for (String each : MAX_POOL_SIZE_PROPERTY_NAMES) {
+            if (properties.get(each) instanceof Integer) {
+                return Optional.of((Integer) properties.get(each));
+            }
+        }
+        return Optional.absent();
+    }
+    
+    private void warmUpParsingResultCache() {
+        String warmUpFile = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_WARM_UP_FILE);
+        if (warmUpFile.isEmpty()) {
+            return;
+        }
+        ShardingSQLParseEntry parseEntry = new ShardingSQLParseEntry(databaseType, metaData.getTable(), parsingResultCache);
+        for (String each : loadWarmUpSQLs(warmUpFile)) {
+            if (!each.trim().isEmpty()) {
+                parseEntry.parse(each.trim(), true);
+            }
+        }
+    }
+    
+    private List<String> loadWarmUpSQLs(final String warmUpFile) {
+        try {
+            return Files.readAllLines(Paths.get(warmUpFile), StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            throw new ShardingConfigurationException("Can not load warm up SQLs from file `%s`: %s", warmUpFile, ex.getMessage());
+        }
+    }
+    
     @Override
     public void close() {
         executeEngine.close();
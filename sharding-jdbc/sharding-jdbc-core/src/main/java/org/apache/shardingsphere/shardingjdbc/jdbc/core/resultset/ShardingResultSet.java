@@ -324,4 +324,9 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     public Object getObject(final String columnLabel) throws SQLException {
         return mergeResultSet.getValue(columnLabel, Object.class);
     }
+    
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        mergeResultSet.close();
+    }
 }
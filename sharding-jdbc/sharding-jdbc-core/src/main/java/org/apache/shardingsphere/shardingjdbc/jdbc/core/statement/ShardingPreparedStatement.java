@@ -27,6 +27,7 @@ import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
 import org.apache.shardingsphere.core.merge.MergeEngineFactory;
+import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.GeneratedKey;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.ShardingInsertOptimizedStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.shardingjdbc.executor.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.executor.PreparedStatementExecutor;
+import org.apache.shardingsphere.shardingjdbc.executor.SeekPaginationExecutor;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractShardingPreparedStatementAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
@@ -107,10 +109,17 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         try {
             clearPrevious();
             shard();
-            initPreparedStatementExecutor();
-            MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), preparedStatementExecutor.executeQuery());
-            result = getResultSet(mergeEngine);
+            Optional<MergedResult> seekPaginationMergedResult = executeSeekPaginationQuery();
+            if (seekPaginationMergedResult.isPresent()) {
+                result = new ShardingResultSet(preparedStatementExecutor.getResultSets(), seekPaginationMergedResult.get(), this);
+            } else {
+                clearPrevious();
+                initPreparedStatementExecutor();
+                MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
+                        connection.getShardingContext().getShardingRule(), connection.getShardingContext().getShardingProperties(), routeResult,
+                        connection.getShardingContext().getMetaData().getTable(), preparedStatementExecutor.executeQuery());
+                result = getResultSet(mergeEngine);
+            }
         } finally {
             clearBatch();
         }
@@ -118,6 +127,19 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return result;
     }
     
+    private Optional<MergedResult> executeSeekPaginationQuery() throws SQLException {
+        return new SeekPaginationExecutor(connection.getShardingContext(), routeResult, getParameters(), true, new SeekPaginationExecutor.QueryCallback() {
+            
+            @Override
+            public List<QueryResult> executeQuery(final SQLRouteResult phaseRouteResult) throws SQLException {
+                clearPrevious();
+                preparedStatementExecutor.init(phaseRouteResult);
+                setParametersForStatements();
+                return preparedStatementExecutor.executeQuery();
+            }
+        }).executeQuery();
+    }
+    
     @Override
     public ResultSet getResultSet() throws SQLException {
         if (null != currentResultSet) {
@@ -136,7 +158,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
         if (routeResult.getOptimizedStatement().getSQLStatement() instanceof SelectStatement || routeResult.getOptimizedStatement().getSQLStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(),
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults);
+                    connection.getShardingContext().getShardingRule(), connection.getShardingContext().getShardingProperties(), routeResult,
+                    connection.getShardingContext().getMetaData().getTable(), queryResults);
             currentResultSet = getCurrentResultSet(resultSets, mergeEngine);
         }
         return currentResultSet;
@@ -277,6 +300,12 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return !connection.getShardingContext().getShardingRule().isAllBroadcastTables(routeResult.getOptimizedStatement().getSQLStatement().getTables().getTableNames());
     }
     
+    @Override
+    protected void releaseConnectionBudget() {
+        preparedStatementExecutor.releaseConnectionBudget();
+        batchPreparedStatementExecutor.releaseConnectionBudget();
+    }
+    
     @Override
     public Collection<PreparedStatement> getRoutedStatements() {
         return Collections2.transform(preparedStatementExecutor.getStatements(), new Function<Statement, PreparedStatement>() {
@@ -25,12 +25,14 @@ import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
 import org.apache.shardingsphere.core.merge.MergeEngineFactory;
+import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.GeneratedKey;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.ShardingInsertOptimizedStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.shardingjdbc.executor.SeekPaginationExecutor;
 import org.apache.shardingsphere.shardingjdbc.executor.StatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
@@ -88,10 +90,17 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         try {
             clearPrevious();
             shard(sql);
-            initStatementExecutor();
-            MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), statementExecutor.executeQuery());
-            result = getResultSet(mergeEngine);
+            Optional<MergedResult> seekPaginationMergedResult = executeSeekPaginationQuery();
+            if (seekPaginationMergedResult.isPresent()) {
+                result = new ShardingResultSet(statementExecutor.getResultSets(), seekPaginationMergedResult.get(), this);
+            } else {
+                clearPrevious();
+                initStatementExecutor();
+                MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
+                        connection.getShardingContext().getShardingRule(), connection.getShardingContext().getShardingProperties(), routeResult,
+                        connection.getShardingContext().getMetaData().getTable(), statementExecutor.executeQuery());
+                result = getResultSet(mergeEngine);
+            }
         } finally {
             currentResultSet = null;
         }
@@ -99,6 +108,19 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         return result;
     }
     
+    private Optional<MergedResult> executeSeekPaginationQuery() throws SQLException {
+        return new SeekPaginationExecutor(connection.getShardingContext(), routeResult, Collections.emptyList(), false, new SeekPaginationExecutor.QueryCallback() {
+            
+            @Override
+            public List<QueryResult> executeQuery(final SQLRouteResult phaseRouteResult) throws SQLException {
+                clearPrevious();
+                statementExecutor.init(phaseRouteResult);
+                replayMethodForStatements();
+                return statementExecutor.executeQuery();
+            }
+        }).executeQuery();
+    }
+    
     @Override
     public ResultSet getResultSet() throws SQLException {
         if (null != currentResultSet) {
@@ -117,7 +139,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         }
         if (routeResult.getOptimizedStatement().getSQLStatement() instanceof SelectStatement || routeResult.getOptimizedStatement().getSQLStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(),
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults);
+                    connection.getShardingContext().getShardingRule(), connection.getShardingContext().getShardingProperties(), routeResult,
+                    connection.getShardingContext().getMetaData().getTable(), queryResults);
             currentResultSet = getCurrentResultSet(resultSets, mergeEngine);
         }
         return currentResultSet;
@@ -281,6 +304,11 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         return !connection.getShardingContext().getShardingRule().isAllBroadcastTables(routeResult.getOptimizedStatement().getSQLStatement().getTables().getTableNames());
     }
     
+    @Override
+    protected void releaseConnectionBudget() {
+        statementExecutor.releaseConnectionBudget();
+    }
+    
     @Override
     public Collection<Statement> getRoutedStatements() {
         return statementExecutor.getStatements();
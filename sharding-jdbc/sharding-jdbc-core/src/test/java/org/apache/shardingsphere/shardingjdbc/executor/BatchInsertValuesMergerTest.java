@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor;
+
+import org.apache.shardingsphere.core.route.BatchRouteUnit;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class BatchInsertValuesMergerTest {
+    
+    @Test
+    public void assertMergeWithChunks() {
+        BatchRouteUnit batchRouteUnit = createBatchRouteUnit("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)", 0, 2, 3);
+        Map<RouteUnit, Integer> mergedRowsCounts = new HashMap<>();
+        Map<RouteUnit, BatchRouteUnit> actual = new BatchInsertValuesMerger(2).merge(Collections.singletonMap(batchRouteUnit.getRouteUnit(), batchRouteUnit), mergedRowsCounts);
+        assertThat(actual.size(), is(2));
+        Iterator<BatchRouteUnit> iterator = actual.values().iterator();
+        BatchRouteUnit twoRows = iterator.next();
+        assertThat(twoRows.getRouteUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        assertThat(twoRows.getRouteUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(0, 10, 2, 12)));
+        assertThat(twoRows.getJdbcAndActualAddBatchCallTimesMap().get(0), is(0));
+        assertThat(twoRows.getJdbcAndActualAddBatchCallTimesMap().get(2), is(0));
+        assertThat(mergedRowsCounts.get(twoRows.getRouteUnit()), is(2));
+        BatchRouteUnit oneRow = iterator.next();
+        assertThat(oneRow.getRouteUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)"));
+        assertThat(oneRow.getRouteUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(3, 13)));
+        assertThat(oneRow.getJdbcAndActualAddBatchCallTimesMap().get(3), is(0));
+        assertThat(mergedRowsCounts.get(oneRow.getRouteUnit()), is(1));
+    }
+    
+    @Test
+    public void assertMergeWithOnDuplicateKeyUpdate() {
+        BatchRouteUnit batchRouteUnit = createBatchRouteUnit("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?) ON DUPLICATE KEY UPDATE user_id = VALUES(user_id)", 0, 1);
+        Map<RouteUnit, Integer> mergedRowsCounts = new HashMap<>();
+        Map<RouteUnit, BatchRouteUnit> actual = new BatchInsertValuesMerger(2).merge(Collections.singletonMap(batchRouteUnit.getRouteUnit(), batchRouteUnit), mergedRowsCounts);
+        assertThat(actual.size(), is(1));
+        BatchRouteUnit twoRows = actual.values().iterator().next();
+        assertThat(twoRows.getRouteUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?), (?, ?) ON DUPLICATE KEY UPDATE user_id = VALUES(user_id)"));
+        assertThat(twoRows.getRouteUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(0, 10, 1, 11)));
+        assertThat(mergedRowsCounts.get(twoRows.getRouteUnit()), is(2));
+    }
+    
+    @Test
+    public void assertMergeWithParameterMarkersOutsideInsertValues() {
+        BatchRouteUnit batchRouteUnit = createBatchRouteUnit("INSERT INTO t_order_0 (order_id) VALUES (?) ON DUPLICATE KEY UPDATE user_id = ?", 0, 1);
+        Map<RouteUnit, Integer> mergedRowsCounts = new HashMap<>();
+        Map<RouteUnit, BatchRouteUnit> actual = new BatchInsertValuesMerger(2).merge(Collections.singletonMap(batchRouteUnit.getRouteUnit(), batchRouteUnit), mergedRowsCounts);
+        assertThat(actual.values().iterator().next(), is(batchRouteUnit));
+        assertThat(mergedRowsCounts.size(), is(0));
+    }
+    
+    @Test
+    public void assertMergeWithoutInsertValues() {
+        BatchRouteUnit batchRouteUnit = new BatchRouteUnit(new RouteUnit("ds_0", new SQLUnit("INSERT INTO t_order_0 (order_id, user_id) SELECT order_id, user_id FROM t_order_1", new ArrayList<>())));
+        batchRouteUnit.mapAddBatchCount(0);
+        batchRouteUnit.mapAddBatchCount(1);
+        Map<RouteUnit, Integer> mergedRowsCounts = new HashMap<>();
+        Map<RouteUnit, BatchRouteUnit> actual = new BatchInsertValuesMerger(2).merge(Collections.singletonMap(batchRouteUnit.getRouteUnit(), batchRouteUnit), mergedRowsCounts);
+        assertThat(actual.values().iterator().next(), is(batchRouteUnit));
+        assertThat(mergedRowsCounts.size(), is(0));
+    }
+    
+    private BatchRouteUnit createBatchRouteUnit(final String sql, final int... jdbcAddBatchTimes) {
+        int insertValuesStartIndex = sql.indexOf("(?");
+        int insertValuesStopIndex = sql.indexOf(')', insertValuesStartIndex) + 1;
+        BatchRouteUnit result = new BatchRouteUnit(new RouteUnit("ds_0", new SQLUnit(sql, new ArrayList<>(), insertValuesStartIndex, insertValuesStopIndex)));
+        for (int each : jdbcAddBatchTimes) {
+            result.getRouteUnit().getSqlUnit().getParameters().addAll(Arrays.<Object>asList(each, each + 10));
+            result.mapAddBatchCount(each);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor;
+
+import com.google.common.collect.Maps;
+import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.shardingjdbc.common.base.AbstractSQLTest;
+import org.apache.shardingsphere.shardingjdbc.fixture.PreciseOrderShardingAlgorithm;
+import org.apache.shardingsphere.shardingjdbc.fixture.RangeOrderShardingAlgorithm;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSource;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SeekPaginationExecutorTest extends AbstractSQLTest {
+    
+    private static ShardingDataSource shardingDataSource;
+    
+    @BeforeClass
+    public static void initShardingDataSource() throws SQLException {
+        Map<String, DataSource> dataSources = Maps.newHashMap(getDatabaseTypeMap().values().iterator().next());
+        dataSources.keySet().retainAll(Arrays.asList("jdbc_0", "jdbc_1"));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration orderItemTableRuleConfig = new TableRuleConfiguration("t_order_item", "jdbc_${0..1}.t_order_item_${0..1}");
+        orderItemTableRuleConfig.setKeyGeneratorConfig(new KeyGeneratorConfiguration("INCREMENT", "item_id", new Properties()));
+        shardingRuleConfig.getTableRuleConfigs().add(orderItemTableRuleConfig);
+        shardingRuleConfig.setDefaultTableShardingStrategyConfig(new StandardShardingStrategyConfiguration("order_id", new PreciseOrderShardingAlgorithm(), new RangeOrderShardingAlgorithm()));
+        shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new StandardShardingStrategyConfiguration("user_id", new PreciseOrderShardingAlgorithm(), new RangeOrderShardingAlgorithm()));
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.SEEK_PAGINATION_MIN_OFFSET.getKey(), "1");
+        shardingDataSource = new ShardingDataSource(dataSources, new ShardingRule(shardingRuleConfig, dataSources.keySet()), props);
+    }
+    
+    @AfterClass
+    public static void closeShardingDataSource() throws Exception {
+        shardingDataSource.close();
+    }
+    
+    @Test
+    public void assertExecuteQueryWithBalancedShards() throws SQLException {
+        List<Integer> itemIds = new ArrayList<>(40);
+        for (int i = 1; i <= 40; i++) {
+            itemIds.add(i * 10);
+        }
+        initOrderItems(itemIds, false);
+        assertPages(itemIds);
+    }
+    
+    @Test
+    public void assertExecuteQueryWithSkewedShards() throws SQLException {
+        List<Integer> itemIds = new ArrayList<>(40);
+        for (int i = 1; i <= 40; i++) {
+            itemIds.add(i * 10);
+        }
+        initOrderItems(itemIds, true);
+        assertPages(itemIds);
+    }
+    
+    private void initOrderItems(final List<Integer> itemIds, final boolean skewed) throws SQLException {
+        try (
+            Connection connection = shardingDataSource.getConnection();
+            Statement statement = connection.createStatement();
+            PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order_item (item_id, order_id, user_id, status) VALUES (?, ?, ?, ?)")) {
+            statement.executeUpdate("DELETE FROM t_order_item");
+            for (int each : itemIds) {
+                boolean inFirstShard = skewed && each < 300;
+                preparedStatement.setInt(1, each);
+                preparedStatement.setInt(2, inFirstShard ? 0 : each / 10 / 2 % 2);
+                preparedStatement.setInt(3, inFirstShard ? 0 : each / 10 % 2);
+                preparedStatement.setString(4, each % 3 == 0 ? "init" : "paid");
+                preparedStatement.executeUpdate();
+            }
+        }
+    }
+    
+    private void assertPages(final List<Integer> itemIds) throws SQLException {
+        List<Integer> descItemIds = new ArrayList<>(itemIds);
+        Collections.reverse(descItemIds);
+        List<Integer> paidItemIds = new ArrayList<>();
+        for (int each : itemIds) {
+            if (each % 3 != 0) {
+                paidItemIds.add(each);
+            }
+        }
+        for (int offset = 1; offset <= itemIds.size(); offset += 3) {
+            assertThat(queryByPreparedStatement("SELECT item_id, status FROM t_order_item ORDER BY item_id LIMIT ?, ?", offset, 5), is(subList(itemIds, offset, 5)));
+            assertThat(queryByPreparedStatement("SELECT * FROM t_order_item ORDER BY item_id DESC LIMIT ?, ?", offset, 5), is(subList(descItemIds, offset, 5)));
+            assertThat(queryByPreparedStatement("SELECT item_id FROM t_order_item WHERE status = 'init' OR status = 'paid' AND item_id > ? ORDER BY item_id LIMIT ?, ?", 0, offset, 5),
+                    is(subList(itemIds, offset, 5)));
+            assertThat(queryByPreparedStatement("SELECT item_id FROM t_order_item WHERE status = ? ORDER BY item_id LIMIT ?, ?", "paid", offset, 5), is(subList(paidItemIds, offset, 5)));
+            assertThat(queryByStatement(String.format("SELECT item_id, status FROM t_order_item ORDER BY item_id LIMIT %s, 5", offset)), is(subList(itemIds, offset, 5)));
+        }
+    }
+    
+    private List<Integer> subList(final List<Integer> itemIds, final int offset, final int rowCount) {
+        return offset >= itemIds.size() ? Collections.<Integer>emptyList() : itemIds.subList(offset, Math.min(offset + rowCount, itemIds.size()));
+    }
+    
+    private List<Integer> queryByPreparedStatement(final String sql, final Object... parameters) throws SQLException {
+        try (
+            Connection connection = shardingDataSource.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                preparedStatement.setObject(i + 1, parameters[i]);
+            }
+            return getItemIds(preparedStatement.executeQuery());
+        }
+    }
+    
+    private List<Integer> queryByStatement(final String sql) throws SQLException {
+        try (
+            Connection connection = shardingDataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            return getItemIds(statement.executeQuery(sql));
+        }
+    }
+    
+    private List<Integer> getItemIds(final ResultSet resultSet) throws SQLException {
+        List<Integer> result = new ArrayList<>();
+        while (resultSet.next()) {
+            result.add(resultSet.getInt("item_id"));
+        }
+        return result;
+    }
+}
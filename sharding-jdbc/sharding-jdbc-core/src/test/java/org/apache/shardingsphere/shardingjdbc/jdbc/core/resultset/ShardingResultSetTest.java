@@ -56,6 +56,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingResultSetTest {
@@ -103,6 +104,13 @@ public final class ShardingResultSetTest {
         assertTrue(shardingResultSet.next());
     }
     
+    @Test
+    public void assertClose() throws SQLException {
+        shardingResultSet.close();
+        assertTrue(shardingResultSet.isClosed());
+        verify(mergeResultSet).close();
+    }
+    
     @Test
     public void assertWasNull() throws SQLException {
         assertFalse(shardingResultSet.wasNull());
@@ -39,6 +39,7 @@ import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateRes
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
@@ -70,6 +71,8 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private MergedResult mergedResult;
     
+    private List<Integer> columnTypes;
+    
     @Override
     public BackendResponse execute() {
         try {
@@ -107,8 +110,9 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             }
             return response;
         }
-        mergedResult = MergeEngineFactory.newInstance(databaseType, 
-                logicSchema.getShardingRule(), routeResult, logicSchema.getMetaData().getTable(), ((QueryResponse) response).getQueryResults()).merge();
+        mergedResult = MergeEngineFactory.newInstance(databaseType, logicSchema.getShardingRule(), ShardingProxyContext.getInstance().getShardingProperties(),
+                routeResult, logicSchema.getMetaData().getTable(), ((QueryResponse) response).getQueryResults()).merge();
+        executeEngine.getBackendConnection().add(mergedResult);
         if (mergedResult instanceof ShowTablesMergedResult) {
             ((ShowTablesMergedResult) mergedResult).resetColumnLabel(logicSchema.getName());
         }
@@ -127,6 +131,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             }
         }
         queryHeaders.removeAll(derivedColumnQueryHeaders);
+        columnTypes = getColumnTypes(queryHeaders);
         return new QueryResponse(queryHeaders);
     }
     
@@ -137,12 +142,12 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     @Override
     public QueryData getQueryData() throws SQLException {
-        List<QueryHeader> queryHeaders = ((QueryResponse) response).getQueryHeaders();
-        List<Object> row = new ArrayList<>(queryHeaders.size());
-        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+        int columnCount = columnTypes.size();
+        List<Object> row = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
             row.add(mergedResult.getValue(columnIndex, Object.class));
         }
-        return new QueryData(getColumnTypes(queryHeaders), row);
+        return new QueryData(columnTypes, row);
     }
     
     private List<Integer> getColumnTypes(final List<QueryHeader> queryHeaders) {
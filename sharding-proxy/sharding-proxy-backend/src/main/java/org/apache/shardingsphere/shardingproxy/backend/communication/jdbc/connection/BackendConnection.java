@@ -26,11 +26,14 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
+import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterVisitedManager;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import java.nio.charset.Charset;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -65,12 +68,19 @@ public final class BackendConnection implements AutoCloseable {
     @Setter
     private String userName;
     
+    @Setter
+    private Charset clientCharset;
+    
     private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
     
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<SQLExecutePrepareTemplate> cachedPrepareTemplates = new CopyOnWriteArrayList<>();
+    
+    private final Collection<MergedResult> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new ArrayList<>();
     
     @Getter
@@ -225,6 +235,26 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add SQL execute prepare template, connection budget acquired by template is released when statements are closed.
+     *
+     * @param sqlExecutePrepareTemplate SQL execute prepare template to be added
+     */
+    public void add(final SQLExecutePrepareTemplate sqlExecutePrepareTemplate) {
+        if (!cachedPrepareTemplates.contains(sqlExecutePrepareTemplate)) {
+            cachedPrepareTemplates.add(sqlExecutePrepareTemplate);
+        }
+    }
+    
+    /**
+     * Add merged result.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final MergedResult mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -239,8 +269,10 @@ public final class BackendConnection implements AutoCloseable {
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
+        exceptions.addAll(closeMergedResults());
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
+        releaseConnectionBudget();
         if (!stateHandler.isInTransaction() || forceClose) {
             exceptions.addAll(releaseConnections(forceClose));
         }
@@ -248,6 +280,19 @@ public final class BackendConnection implements AutoCloseable {
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private Collection<SQLException> closeMergedResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (MergedResult each : cachedMergedResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedMergedResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -274,6 +319,13 @@ public final class BackendConnection implements AutoCloseable {
         return result;
     }
     
+    private void releaseConnectionBudget() {
+        for (SQLExecutePrepareTemplate each : cachedPrepareTemplates) {
+            each.releaseConnectionBudget();
+        }
+        cachedPrepareTemplates.clear();
+    }
+    
     Collection<SQLException> releaseConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
         for (Connection each : cachedConnections.values()) {
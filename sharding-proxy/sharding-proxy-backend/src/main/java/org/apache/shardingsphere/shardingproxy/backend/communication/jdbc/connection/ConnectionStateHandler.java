@@ -72,6 +72,16 @@ public class ConnectionStateHandler {
         return ConnectionStatus.TRANSACTION == status.get();
     }
     
+    /**
+     * Judge whether connection is idle or not, idle connection is not used by running command or transaction.
+     *
+     * @return true or false
+     */
+    public boolean isIdle() {
+        ConnectionStatus currentStatus = status.get();
+        return ConnectionStatus.INIT == currentStatus || ConnectionStatus.RELEASE == currentStatus;
+    }
+    
     /**
      * Notify connection to finish wait if necessary.
      */
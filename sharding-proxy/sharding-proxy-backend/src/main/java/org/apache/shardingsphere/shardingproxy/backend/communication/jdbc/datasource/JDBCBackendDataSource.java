@@ -21,10 +21,14 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.Maps;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.execute.sql.prepare.ConnectionBudget;
 import org.apache.shardingsphere.shardingproxy.backend.BackendDataSource;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.transaction.spi.ShardingTransactionManager;
@@ -62,9 +66,13 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
     @Getter
     private ShardingTransactionManagerEngine shardingTransactionManagerEngine = new ShardingTransactionManagerEngine();
     
+    @Getter
+    private ConnectionBudget connectionBudget;
+    
     public JDBCBackendDataSource(final Map<String, YamlDataSourceParameter> dataSourceParameters) {
         this.dataSourceParameters = dataSourceParameters;
         this.dataSources = createDataSources(dataSourceParameters);
+        connectionBudget = createConnectionBudget(dataSourceParameters);
         shardingTransactionManagerEngine.init(LogicSchemas.getInstance().getDatabaseType(), dataSources);
     }
     
@@ -82,6 +90,18 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
         return result;
     }
     
+    private ConnectionBudget createConnectionBudget(final Map<String, YamlDataSourceParameter> dataSourceParameters) {
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        if (!shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CONNECTION_BUDGET_ENABLED)) {
+            return null;
+        }
+        Map<String, Integer> poolSizes = new LinkedHashMap<>(dataSourceParameters.size(), 1);
+        for (Entry<String, YamlDataSourceParameter> entry : dataSourceParameters.entrySet()) {
+            poolSizes.put(entry.getKey(), entry.getValue().getMaxPoolSize());
+        }
+        return new ConnectionBudget(poolSizes, shardingProperties.<Integer>getValue(ShardingPropertiesConstant.CONNECTION_BUDGET_RESERVED_SIZE));
+    }
+    
     /**
      * Get connection.
      *
@@ -193,6 +213,7 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
         dataSources = getChangedDataSources(deletedDataSources, getAddedDataSources(dataSourceParameters), modifiedDataSources);
         this.dataSourceParameters.clear();
         this.dataSourceParameters.putAll(dataSourceParameters);
+        connectionBudget = createConnectionBudget(dataSourceParameters);
         shardingTransactionManagerEngine.close();
         shardingTransactionManagerEngine.init(LogicSchemas.getInstance().getDatabaseType(), dataSources);
     }
@@ -17,28 +17,40 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
 
+import com.google.common.base.Optional;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
+import org.apache.shardingsphere.core.execute.sql.prepare.ConnectionBudget;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.spi.database.MySQLDatabaseType;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback.ProxyJDBCExecutePrepareCallback;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback.ProxySQLExecuteCallback;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteQueryResponse;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteResponse;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.result.ResultCharsetUtil;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.StatementExecutorWrapper;
 import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.EncryptSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
@@ -66,25 +78,52 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         this.backendConnection = backendConnection;
         this.jdbcExecutorWrapper = jdbcExecutorWrapper;
         int maxConnectionsSizePerQuery = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, getConnectionBudget());
         sqlExecuteTemplate = new SQLExecuteTemplate(BackendExecutorContext.getInstance().getExecuteEngine(), backendConnection.isSerialExecute());
     }
     
+    private ConnectionBudget getConnectionBudget() {
+        return null == backendConnection.getLogicSchema() ? null : backendConnection.getLogicSchema().getBackendDataSource().getConnectionBudget();
+    }
+    
     @SuppressWarnings("unchecked")
     @Override
     public BackendResponse execute(final SQLRouteResult routeResult) throws SQLException {
         boolean isReturnGeneratedKeys = routeResult.getOptimizedStatement().getSQLStatement() instanceof InsertStatement;
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        boolean isPassThrough = isPassThrough(routeResult);
+        backendConnection.add(sqlExecutePrepareTemplate);
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups = sqlExecutePrepareTemplate.getExecuteUnitGroups(
                 routeResult.getRouteUnits(), new ProxyJDBCExecutePrepareCallback(backendConnection, jdbcExecutorWrapper, isReturnGeneratedKeys));
         Collection<ExecuteResponse> executeResponses = sqlExecuteTemplate.executeGroup((Collection) sqlExecuteGroups, 
-                new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true), 
-                new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false));
+                new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true, isPassThrough), 
+                new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false, isPassThrough));
         ExecuteResponse executeResponse = executeResponses.iterator().next();
         return executeResponse instanceof ExecuteQueryResponse
                 ? getExecuteQueryResponse(((ExecuteQueryResponse) executeResponse).getQueryHeaders(), executeResponses) : new UpdateResponse(executeResponses);
     }
     
+    private boolean isPassThrough(final SQLRouteResult routeResult) {
+        return ShardingProxyContext.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PROXY_BACKEND_ROW_PASS_THROUGH_ENABLED)
+                && LogicSchemas.getInstance().getDatabaseType() instanceof MySQLDatabaseType && jdbcExecutorWrapper instanceof StatementExecutorWrapper
+                && 1 == routeResult.getRouteUnits().size() && routeResult.getOptimizedStatement().getSQLStatement() instanceof SelectStatement && !isDecryptNeeded()
+                && isCharsetMatched(routeResult.getRouteUnits().iterator().next().getDataSourceName());
+    }
+    
+    private boolean isCharsetMatched(final String dataSourceName) {
+        YamlDataSourceParameter dataSourceParameter = backendConnection.getLogicSchema().getDataSources().get(dataSourceName);
+        if (null == backendConnection.getClientCharset() || null == dataSourceParameter) {
+            return false;
+        }
+        Optional<Charset> resultCharset = ResultCharsetUtil.findResultCharset(dataSourceParameter.getUrl());
+        return resultCharset.isPresent() && resultCharset.get().equals(backendConnection.getClientCharset());
+    }
+    
+    private boolean isDecryptNeeded() {
+        LogicSchema logicSchema = backendConnection.getLogicSchema();
+        return logicSchema instanceof EncryptSchema || logicSchema instanceof ShardingSchema && !logicSchema.getShardingRule().getEncryptRule().getEncryptTableNames().isEmpty();
+    }
+    
     private BackendResponse getExecuteQueryResponse(final List<QueryHeader> queryHeaders, final Collection<ExecuteResponse> executeResponses) {
         QueryResponse result = new QueryResponse(queryHeaders);
         for (ExecuteResponse each : executeResponses) {
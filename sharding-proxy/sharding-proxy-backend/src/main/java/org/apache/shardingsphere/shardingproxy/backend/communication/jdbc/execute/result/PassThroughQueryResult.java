@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.result;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultMetaData;
+
+import java.io.InputStream;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * Query result to pass through raw rows of backend database.
+ *
+ * <p>
+ * Value of every cell is bytes read from backend without decoding, which can be relayed to text protocol client directly.
+ * </p>
+ */
+public final class PassThroughQueryResult implements QueryResult {
+    
+    private final QueryResultMetaData metaData;
+    
+    private final ResultSet resultSet;
+    
+    @SneakyThrows
+    public PassThroughQueryResult(final ResultSet resultSet) {
+        this.resultSet = resultSet;
+        metaData = new QueryResultMetaData(resultSet.getMetaData());
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return resultSet.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return resultSet.getBytes(columnIndex);
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return resultSet.getBytes(metaData.getColumnIndex(columnLabel));
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        if (Date.class == type) {
+            return resultSet.getDate(columnIndex, calendar);
+        }
+        if (Time.class == type) {
+            return resultSet.getTime(columnIndex, calendar);
+        }
+        if (Timestamp.class == type) {
+            return resultSet.getTimestamp(columnIndex, calendar);
+        }
+        throw new SQLException(String.format("Unsupported type: %s", type));
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getCalendarValue(metaData.getColumnIndex(columnLabel), type, calendar);
+    }
+    
+    @SuppressWarnings("deprecation")
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        switch (type) {
+            case "Ascii":
+                return resultSet.getAsciiStream(columnIndex);
+            case "Unicode":
+                return resultSet.getUnicodeStream(columnIndex);
+            case "Binary":
+                return resultSet.getBinaryStream(columnIndex);
+            default:
+                throw new SQLException(String.format("Unsupported type: %s", type));
+        }
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        return getInputStream(metaData.getColumnIndex(columnLabel), type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return resultSet.wasNull();
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return metaData.getColumnCount();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return metaData.getColumnLabel(columnIndex);
+    }
+}
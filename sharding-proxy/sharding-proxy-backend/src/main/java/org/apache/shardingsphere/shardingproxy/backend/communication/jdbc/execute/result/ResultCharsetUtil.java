@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.result;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.Charset;
+
+/**
+ * Result charset utility class.
+ *
+ * <p>
+ * Charset of results is read from JDBC URL of MySQL data source, which is character set results if configured, otherwise character encoding.
+ * It is unknown if neither is configured, since the driver uses charset of database server then.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResultCharsetUtil {
+    
+    private static final String CHARACTER_ENCODING = "characterEncoding";
+    
+    private static final String CHARACTER_SET_RESULTS = "characterSetResults";
+    
+    /**
+     * Find charset of results.
+     *
+     * @param url JDBC URL
+     * @return charset of results, absent if unknown
+     */
+    public static Optional<Charset> findResultCharset(final String url) {
+        Optional<String> characterSetResults = findProperty(url, CHARACTER_SET_RESULTS);
+        Optional<String> charsetName = characterSetResults.isPresent() ? characterSetResults : findProperty(url, CHARACTER_ENCODING);
+        return charsetName.isPresent() ? findCharset(charsetName.get()) : Optional.<Charset>absent();
+    }
+    
+    private static Optional<String> findProperty(final String url, final String key) {
+        int queryIndex = url.indexOf('?');
+        if (-1 == queryIndex) {
+            return Optional.absent();
+        }
+        for (String each : url.substring(queryIndex + 1).split("&")) {
+            int equalIndex = each.indexOf('=');
+            if (-1 != equalIndex && key.equalsIgnoreCase(each.substring(0, equalIndex).trim())) {
+                return Optional.of(each.substring(equalIndex + 1).trim());
+            }
+        }
+        return Optional.absent();
+    }
+    
+    private static Optional<Charset> findCharset(final String charsetName) {
+        if ("utf8".equalsIgnoreCase(charsetName) || "utf8mb4".equalsIgnoreCase(charsetName)) {
+            return Optional.of(Charset.forName("UTF-8"));
+        }
+        try {
+            return Optional.of(Charset.forName(charsetName));
+        } catch (final IllegalArgumentException ex) {
+            return Optional.absent();
+        }
+    }
+}
@@ -20,7 +20,9 @@ package org.apache.shardingsphere.shardingproxy.backend.executor;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ExecutorRejectedPolicy;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
@@ -35,8 +37,7 @@ public final class BackendExecutorContext {
     
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
-    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(
-            ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE));
+    private final ShardingExecuteEngine executeEngine = createExecuteEngine();
     
     /**
      * Get executor context instance.
@@ -46,4 +47,10 @@ public final class BackendExecutorContext {
     public static BackendExecutorContext getInstance() {
         return INSTANCE;
     }
+    
+    private static ShardingExecuteEngine createExecuteEngine() {
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        return new ShardingExecuteEngine(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE), shardingProperties.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_QUEUE_SIZE),
+                ExecutorRejectedPolicy.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.EXECUTOR_REJECTED_POLICY).toUpperCase()));
+    }
 }
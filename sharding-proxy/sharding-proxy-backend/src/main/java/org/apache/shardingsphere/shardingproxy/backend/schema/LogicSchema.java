@@ -55,7 +55,7 @@ public abstract class LogicSchema {
     
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources) {
         this.name = name;
-        parsingResultCache = new ParsingResultCache();
+        parsingResultCache = new ParsingResultCache(ShardingProxyContext.getInstance().getShardingProperties());
         backendDataSource = new JDBCBackendDataSource(dataSources);
         ShardingOrchestrationEventBus.getInstance().register(this);
     }
@@ -34,8 +34,8 @@ public final class ShardingCTLBackendHandlerFactory {
     
     private static final String SCTL_SET = SCTL + "SET";
     
-    private static final String SCTL_SHOW = SCTL + "SHOW";
-
+    public static final String SCTL_SHOW = SCTL + "SHOW";
+    
     private static final String SCTL_EXPLAIN = SCTL + "EXPLAIN";
     
     /**
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.conne
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.shardingproxy.backend.MockLogicSchemasUtil;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
@@ -214,6 +215,19 @@ public final class BackendConnectionTest {
         assertTrue(actual.getCachedStatements().isEmpty());
     }
     
+    @Test
+    public void assertCloseMergedResults() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        BackendConnection actual;
+        try (BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL)) {
+            backendConnection.setCurrentSchema("schema_0");
+            backendConnection.add(mergedResult);
+            actual = backendConnection;
+        }
+        verify(mergedResult).close();
+        assertTrue(actual.getCachedMergedResults().isEmpty());
+    }
+    
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
@@ -22,6 +22,7 @@ import org.junit.Test;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public final class ConnectionStateHandlerTest {
@@ -87,4 +88,15 @@ public final class ConnectionStateHandlerTest {
         notifyThread.join();
         assertTrue(flag.get());
     }
+    
+    @Test
+    public void assertIsIdle() {
+        assertTrue(connectionStateHandler.isIdle());
+        connectionStateHandler.setRunningStatusIfNecessary();
+        assertFalse(connectionStateHandler.isIdle());
+        connectionStateHandler.doNotifyIfNecessary();
+        assertTrue(connectionStateHandler.isIdle());
+        connectionStateHandler.setStatus(ConnectionStatus.TRANSACTION);
+        assertFalse(connectionStateHandler.isIdle());
+    }
 }
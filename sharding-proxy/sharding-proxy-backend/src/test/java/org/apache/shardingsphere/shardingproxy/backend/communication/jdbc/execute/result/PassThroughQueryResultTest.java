@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.result;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PassThroughQueryResultTest {
+    
+    private ResultSet resultSet;
+    
+    @Before
+    public void setUp() throws SQLException {
+        resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("order_id");
+        when(metaData.getColumnLabel(2)).thenReturn("status");
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getBytes(1)).thenReturn("1".getBytes());
+    }
+    
+    @Test
+    public void assertGetValueWithColumnIndex() throws SQLException {
+        PassThroughQueryResult actual = new PassThroughQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat((byte[]) actual.getValue(1, Object.class), is("1".getBytes()));
+        assertNull(actual.getValue(2, Object.class));
+    }
+    
+    @Test
+    public void assertGetValueWithColumnLabel() throws SQLException {
+        PassThroughQueryResult actual = new PassThroughQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat((byte[]) actual.getValue("order_id", Object.class), is("1".getBytes()));
+    }
+    
+    @Test
+    public void assertGetColumnCountAndLabel() {
+        PassThroughQueryResult actual = new PassThroughQueryResult(resultSet);
+        assertThat(actual.getColumnCount(), is(2));
+        assertThat(actual.getColumnLabel(2), is("status"));
+    }
+}
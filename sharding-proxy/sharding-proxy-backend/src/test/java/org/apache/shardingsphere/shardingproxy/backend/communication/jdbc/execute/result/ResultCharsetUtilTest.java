@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.result;
+
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class ResultCharsetUtilTest {
+    
+    @Test
+    public void assertFindResultCharsetWithCharacterEncoding() {
+        assertThat(ResultCharsetUtil.findResultCharset("jdbc:mysql://localhost:3306/ds_0?useSSL=false&characterEncoding=utf8").get(), is(Charset.forName("UTF-8")));
+    }
+    
+    @Test
+    public void assertFindResultCharsetWithCharacterSetResults() {
+        assertThat(ResultCharsetUtil.findResultCharset("jdbc:mysql://localhost:3306/ds_0?characterEncoding=UTF-8&characterSetResults=GBK").get(), is(Charset.forName("GBK")));
+    }
+    
+    @Test
+    public void assertFindResultCharsetWithoutProperties() {
+        assertFalse(ResultCharsetUtil.findResultCharset("jdbc:mysql://localhost:3306/ds_0").isPresent());
+        assertFalse(ResultCharsetUtil.findResultCharset("jdbc:mysql://localhost:3306/ds_0?useSSL=false").isPresent());
+    }
+    
+    @Test
+    public void assertFindResultCharsetWithUnknownCharset() {
+        assertFalse(ResultCharsetUtil.findResultCharset("jdbc:mysql://localhost:3306/ds_0?characterEncoding=unknown_charset").isPresent());
+    }
+}
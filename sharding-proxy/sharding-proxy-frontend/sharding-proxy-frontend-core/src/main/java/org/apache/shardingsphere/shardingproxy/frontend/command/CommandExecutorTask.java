@@ -21,12 +21,15 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.hook.RootInvokeHook;
 import org.apache.shardingsphere.core.execute.hook.SPIRootInvokeHook;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriteProgress;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
@@ -35,6 +38,7 @@ import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Command executor task.
@@ -53,14 +57,17 @@ public final class CommandExecutorTask implements Runnable {
     
     private final Object message;
     
+    private final AtomicInteger pendingCommandsCount;
+    
+    private boolean isQueryDataWriteSuspended;
+    
     @Override
     public void run() {
         RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
         rootInvokeHook.start();
         int connectionSize = 0;
         boolean isNeedFlush = false;
-        try (BackendConnection backendConnection = this.backendConnection;
-             PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
+        try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
             backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
             backendConnection.getStateHandler().setRunningStatusIfNecessary();
             isNeedFlush = executeCommand(context, payload, backendConnection);
@@ -74,10 +81,23 @@ public final class CommandExecutorTask implements Runnable {
             if (isNeedFlush) {
                 context.flush();
             }
+            if (!isQueryDataWriteSuspended) {
+                closeBackendConnection();
+                pendingCommandsCount.decrementAndGet();
+            }
             rootInvokeHook.finish(connectionSize);
         }
     }
     
+    private void closeBackendConnection() {
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            log.error("Exception occur: ", ex);
+            context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+        }
+    }
+    
     private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
         CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
         CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
@@ -91,7 +111,10 @@ public final class CommandExecutorTask implements Runnable {
             context.write(each);
         }
         if (commandExecutor instanceof QueryCommandExecutor) {
-            commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
+            QueryDataWriteProgress progress = new QueryDataWriteProgress(
+                    responsePackets.size(), ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD));
+            isQueryDataWriteSuspended = new QueryDataWriteTask(
+                    databaseProtocolFrontendEngine, backendConnection, context, (QueryCommandExecutor) commandExecutor, progress, pendingCommandsCount).write();
             return true;
         }
         return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
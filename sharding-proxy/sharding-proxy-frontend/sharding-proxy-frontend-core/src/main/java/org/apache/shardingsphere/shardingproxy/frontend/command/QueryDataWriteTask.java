@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriteProgress;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.CommandExecutorSelector;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Query data write task.
+ *
+ * <p>
+ * Task is suspended when channel is unwritable and resumed by command executor when channel becomes writable,
+ * so thread of command executor is not occupied while slow client is reading query data.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class QueryDataWriteTask implements Runnable {
+    
+    private static final AttributeKey<QueryDataWriteTask> SUSPENDED_TASK = AttributeKey.valueOf("SUSPENDED_QUERY_DATA_WRITE_TASK");
+    
+    private final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
+    
+    private final BackendConnection backendConnection;
+    
+    private final ChannelHandlerContext context;
+    
+    private final QueryCommandExecutor queryCommandExecutor;
+    
+    private final QueryDataWriteProgress progress;
+    
+    private final AtomicInteger pendingCommandsCount;
+    
+    /**
+     * Resume suspended task of channel.
+     *
+     * @param channel channel
+     */
+    public static void resume(final Channel channel) {
+        QueryDataWriteTask task = channel.attr(SUSPENDED_TASK).getAndSet(null);
+        if (null != task) {
+            CommandExecutorSelector.getExecutor(task.databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), 
+                    task.backendConnection.getTransactionType(), channel.id()).execute(task);
+        }
+    }
+    
+    /**
+     * Write query data.
+     *
+     * @return writing is suspended or not
+     * @throws SQLException SQL exception
+     */
+    public boolean write() throws SQLException {
+        if (databaseProtocolFrontendEngine.getCommandExecuteEngine().writeQueryData(context, backendConnection, queryCommandExecutor, progress)) {
+            return false;
+        }
+        context.channel().attr(SUSPENDED_TASK).set(this);
+        if (context.channel().isWritable() || !context.channel().isActive()) {
+            resume(context.channel());
+        }
+        return true;
+    }
+    
+    @Override
+    public void run() {
+        boolean isSuspended = false;
+        try {
+            isSuspended = write();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("Exception occur: ", ex);
+            context.write(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+        } finally {
+            if (!isSuspended) {
+                context.flush();
+                close();
+                pendingCommandsCount.decrementAndGet();
+            }
+        }
+    }
+    
+    private void close() {
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            log.error("Exception occur: ", ex);
+            context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+        }
+    }
+}
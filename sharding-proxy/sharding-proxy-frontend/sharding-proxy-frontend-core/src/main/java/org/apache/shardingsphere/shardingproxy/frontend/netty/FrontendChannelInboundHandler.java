@@ -27,12 +27,15 @@ import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesCons
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.command.CommandExecutorTask;
+import org.apache.shardingsphere.shardingproxy.frontend.command.QueryDataWriteTask;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroup;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.CommandExecutorSelector;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Frontend channel inbound handler.
  * 
@@ -46,6 +49,8 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     
     private volatile boolean authorized;
     
+    private final AtomicInteger pendingCommandsCount = new AtomicInteger();
+    
     private final BackendConnection backendConnection = new BackendConnection(
             TransactionType.valueOf(ShardingProxyContext.getInstance().getShardingProperties().<String>getValue(ShardingPropertiesConstant.PROXY_TRANSACTION_TYPE)));
     
@@ -61,8 +66,21 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             authorized = auth(context, (ByteBuf) message);
             return;
         }
+        CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message, pendingCommandsCount);
+        boolean isExecutableInEventLoop = isExecutableInEventLoop((ByteBuf) message);
+        pendingCommandsCount.incrementAndGet();
+        if (isExecutableInEventLoop) {
+            commandExecutorTask.run();
+            return;
+        }
         CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.getTransactionType(), context.channel().id())
-                .execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message));
+                .execute(commandExecutorTask);
+    }
+    
+    private boolean isExecutableInEventLoop(final ByteBuf message) {
+        return 0 == pendingCommandsCount.get() && !databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection()
+                && TransactionType.LOCAL == backendConnection.getTransactionType() && backendConnection.getStateHandler().isIdle()
+                && databaseProtocolFrontendEngine.getCommandExecuteEngine().isExecutableInEventLoop(message);
     }
     
     private boolean auth(final ChannelHandlerContext context, final ByteBuf message) {
@@ -83,13 +101,14 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
         context.fireChannelInactive();
         databaseProtocolFrontendEngine.release(backendConnection);
         backendConnection.close(true);
+        QueryDataWriteTask.resume(context.channel());
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
     }
     
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
-            backendConnection.getResourceSynchronizer().doNotify();
+            QueryDataWriteTask.resume(context.channel());
         }
     }
 }
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.AuthenticationEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
+import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class FrontendChannelInboundHandlerTest {
+    
+    @Mock
+    private DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
+    
+    @Mock
+    private CommandExecuteEngine commandExecuteEngine;
+    
+    private final CountDownLatch queuedCommandLatch = new CountDownLatch(1);
+    
+    private final Map<ByteBuf, Thread> executedThreads = new ConcurrentHashMap<>();
+    
+    private final ByteBuf queuedMessage = Unpooled.wrappedBuffer(new byte[] {1});
+    
+    private final ByteBuf inlineMessage = Unpooled.wrappedBuffer(new byte[] {2});
+    
+    @Before
+    public void setUp() throws Exception {
+        when(databaseProtocolFrontendEngine.getFrontendContext()).thenReturn(new FrontendContext(false, false));
+        AuthenticationEngine authEngine = mock(AuthenticationEngine.class);
+        when(authEngine.auth(any(ChannelHandlerContext.class), any(PacketPayload.class), any(BackendConnection.class))).thenReturn(true);
+        when(databaseProtocolFrontendEngine.getAuthEngine()).thenReturn(authEngine);
+        DatabasePacketCodecEngine codecEngine = mockCodecEngine();
+        when(databaseProtocolFrontendEngine.getCodecEngine()).thenReturn(codecEngine);
+        when(databaseProtocolFrontendEngine.getCommandExecuteEngine()).thenReturn(commandExecuteEngine);
+        when(commandExecuteEngine.isExecutableInEventLoop(queuedMessage)).thenReturn(false);
+        when(commandExecuteEngine.isExecutableInEventLoop(inlineMessage)).thenReturn(true);
+        CommandPacketType commandPacketType = mock(CommandPacketType.class);
+        CommandPacket commandPacket = mock(CommandPacket.class);
+        CommandExecutor commandExecutor = mock(CommandExecutor.class);
+        when(commandExecuteEngine.getCommandPacketType(any(PacketPayload.class))).thenReturn(commandPacketType);
+        when(commandExecuteEngine.getCommandPacket(any(PacketPayload.class), any(CommandPacketType.class), any(BackendConnection.class))).thenReturn(commandPacket);
+        when(commandExecuteEngine.getCommandExecutor(any(CommandPacketType.class), any(CommandPacket.class), any(BackendConnection.class))).thenReturn(commandExecutor);
+        when(commandExecutor.execute()).thenReturn(Collections.<DatabasePacket>emptyList());
+    }
+    
+    private DatabasePacketCodecEngine mockCodecEngine() {
+        DatabasePacketCodecEngine result = mock(DatabasePacketCodecEngine.class);
+        final PacketPayload payload = mock(PacketPayload.class);
+        when(result.createPacketPayload(any(ByteBuf.class))).thenAnswer(new Answer<PacketPayload>() {
+            
+            @Override
+            public PacketPayload answer(final InvocationOnMock invocation) throws InterruptedException {
+                ByteBuf message = invocation.getArgument(0);
+                if (queuedMessage == message) {
+                    queuedCommandLatch.await();
+                }
+                executedThreads.put(message, Thread.currentThread());
+                return payload;
+            }
+        });
+        return result;
+    }
+    
+    @Test
+    public void assertChannelReadWithQueuedAndInlineCommands() throws InterruptedException {
+        FrontendChannelInboundHandler handler = new FrontendChannelInboundHandler(databaseProtocolFrontendEngine);
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class, RETURNS_DEEP_STUBS);
+        handler.channelRead(context, Unpooled.wrappedBuffer(new byte[] {0}));
+        handler.channelRead(context, queuedMessage);
+        handler.channelRead(context, inlineMessage);
+        queuedCommandLatch.countDown();
+        assertPendingCommandsCompleted(handler);
+        assertThat(executedThreads.get(queuedMessage), not(Thread.currentThread()));
+        assertThat(executedThreads.get(inlineMessage), not(Thread.currentThread()));
+        executedThreads.clear();
+        handler.channelRead(context, inlineMessage);
+        assertThat(executedThreads.get(inlineMessage), is(Thread.currentThread()));
+        assertPendingCommandsCompleted(handler);
+    }
+    
+    private void assertPendingCommandsCompleted(final FrontendChannelInboundHandler handler) throws InterruptedException {
+        AtomicInteger pendingCommandsCount = getPendingCommandsCount(handler);
+        long timeoutMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (0 != pendingCommandsCount.get() && System.currentTimeMillis() < timeoutMillis) {
+            Thread.sleep(10L);
+        }
+        assertThat(pendingCommandsCount.get(), is(0));
+    }
+    
+    @SneakyThrows
+    private AtomicInteger getPendingCommandsCount(final FrontendChannelInboundHandler handler) {
+        Field field = handler.getClass().getDeclaredField("pendingCommandsCount");
+        field.setAccessible(true);
+        return (AtomicInteger) field.get(handler);
+    }
+}
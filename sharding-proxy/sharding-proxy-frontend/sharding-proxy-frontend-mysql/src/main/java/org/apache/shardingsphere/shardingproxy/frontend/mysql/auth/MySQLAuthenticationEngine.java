@@ -17,13 +17,18 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.auth;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Strings;
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.ConnectionIdGenerator;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.AuthenticationEngine;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLCharacterSet;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLServerErrorCode;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLAuthenticationHandler;
@@ -45,6 +50,8 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     public void handshake(final ChannelHandlerContext context, final BackendConnection backendConnection) {
         int connectionId = ConnectionIdGenerator.getInstance().nextId();
         backendConnection.setConnectionId(connectionId);
+        MySQLBinaryStatementRegistry.getInstance().register(
+                connectionId, ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_MAX_PREPARED_STATEMENTS));
         context.writeAndFlush(new MySQLHandshakePacket(connectionId, authenticationHandler.getAuthPluginData()));
     }
     
@@ -58,6 +65,10 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
             }
             backendConnection.setCurrentSchema(response41.getDatabase());
             backendConnection.setUserName(response41.getUsername());
+            Optional<MySQLCharacterSet> characterSet = MySQLCharacterSet.find(response41.getCharacterSet());
+            if (characterSet.isPresent()) {
+                backendConnection.setClientCharset(characterSet.get().getCharset());
+            }
             context.writeAndFlush(new MySQLOKPacket(response41.getSequenceId() + 1));
         } else {
             // TODO localhost should replace to real ip address
@@ -17,13 +17,14 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
-import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.backend.text.sctl.ShardingCTLBackendHandlerFactory;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriteProgress;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.MySQLErrPacketFactory;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketFactory;
@@ -45,6 +46,36 @@ import java.sql.SQLException;
  */
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private static final int COMMAND_TYPE_OFFSET = 1;
+    
+    private static final int SQL_OFFSET = 2;
+    
+    @Override
+    public boolean isExecutableInEventLoop(final ByteBuf message) {
+        if (message.readableBytes() < SQL_OFFSET) {
+            return false;
+        }
+        int commandType = message.getUnsignedByte(message.readerIndex() + COMMAND_TYPE_OFFSET);
+        if (MySQLCommandPacketType.COM_PING.getValue() == commandType || MySQLCommandPacketType.COM_QUIT.getValue() == commandType
+                || MySQLCommandPacketType.COM_STMT_CLOSE.getValue() == commandType) {
+            return true;
+        }
+        return MySQLCommandPacketType.COM_QUERY.getValue() == commandType && startsWithIgnoreCase(message, ShardingCTLBackendHandlerFactory.SCTL_SHOW);
+    }
+    
+    private boolean startsWithIgnoreCase(final ByteBuf message, final String prefix) {
+        if (message.readableBytes() < SQL_OFFSET + prefix.length()) {
+            return false;
+        }
+        int sqlIndex = message.readerIndex() + SQL_OFFSET;
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toUpperCase((char) message.getUnsignedByte(sqlIndex + i)) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return MySQLCommandPacketTypeLoader.getCommandPacketType((MySQLPacketPayload) payload);
@@ -52,7 +83,7 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
     @Override
     public MySQLCommandPacket getCommandPacket(final PacketPayload payload, final CommandPacketType type, final BackendConnection backendConnection) throws SQLException {
-        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload);
+        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload, backendConnection.getConnectionId());
     }
     
     @Override
@@ -66,28 +97,25 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+    public boolean writeQueryData(final ChannelHandlerContext context,
+                                  final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final QueryDataWriteProgress progress) throws SQLException {
         if (!queryCommandExecutor.isQuery() || !context.channel().isActive()) {
-            return;
+            return true;
         }
         int count = 0;
-        int flushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        int currentSequenceId = 0;
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
+        while (context.channel().isWritable()) {
+            if (!queryCommandExecutor.next()) {
+                context.write(new MySQLEofPacket(progress.getHeaderPackagesCount() + progress.getQueryDataPackagesCount() + 1));
+                return true;
             }
-            DatabasePacket dataValue = queryCommandExecutor.getQueryData();
-            context.write(dataValue);
-            if (flushThreshold == count) {
+            context.write(queryCommandExecutor.getQueryData(), context.voidPromise());
+            progress.increaseQueryDataPackagesCount();
+            if (progress.getFlushThreshold() == ++count) {
                 context.flush();
                 count = 0;
             }
-            currentSequenceId++;
         }
-        context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
+        context.flush();
+        return !context.channel().isActive();
     }
 }
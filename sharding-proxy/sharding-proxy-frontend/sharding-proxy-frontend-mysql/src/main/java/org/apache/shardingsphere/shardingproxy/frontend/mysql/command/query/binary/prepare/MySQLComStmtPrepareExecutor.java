@@ -26,6 +26,7 @@ import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLColumnType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.prepare.MySQLComStmtPrepareOKPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.prepare.MySQLComStmtPreparePacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLEofPacket;
@@ -42,18 +43,19 @@ import java.util.LinkedList;
  */
 public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
     
-    private static final MySQLBinaryStatementRegistry PREPARED_STATEMENT_REGISTRY = MySQLBinaryStatementRegistry.getInstance();
-    
     private final MySQLComStmtPreparePacket packet;
     
     private final LogicSchema logicSchema;
     
     private final String schemaName;
     
+    private final MySQLConnectionScopeBinaryStatementRegistry binaryStatementRegistry;
+    
     public MySQLComStmtPrepareExecutor(final MySQLComStmtPreparePacket packet, final BackendConnection backendConnection) {
         this.packet = packet;
         logicSchema = backendConnection.getLogicSchema();
         schemaName = backendConnection.getSchemaName();
+        binaryStatementRegistry = MySQLBinaryStatementRegistry.getInstance().get(backendConnection.getConnectionId());
     }
     
     @Override
@@ -65,7 +67,7 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
         int currentSequenceId = 0;
         SQLStatement sqlStatement = shardingSQLParseEntry.parse(packet.getSql(), true);
         int parametersCount = sqlStatement.getParametersCount();
-        result.add(new MySQLComStmtPrepareOKPacket(++currentSequenceId, PREPARED_STATEMENT_REGISTRY.register(packet.getSql(), parametersCount), getNumColumns(), parametersCount, 0));
+        result.add(new MySQLComStmtPrepareOKPacket(++currentSequenceId, binaryStatementRegistry.register(packet.getSql(), parametersCount), getNumColumns(), parametersCount, 0));
         for (int i = 0; i < parametersCount; i++) {
             // TODO add column name
             result.add(new MySQLColumnDefinition41Packet(++currentSequenceId, schemaName,
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriteProgress;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLCommandExecuteEngineTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(context.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+        when(queryCommandExecutor.isQuery()).thenReturn(true);
+        when(queryCommandExecutor.getQueryData()).thenReturn(mock(DatabasePacket.class));
+    }
+    
+    @Test
+    public void assertWriteQueryDataWithSuspendAndResume() throws SQLException {
+        when(channel.isWritable()).thenReturn(true, true, false, true, true);
+        when(context.voidPromise()).thenReturn(mock(ChannelPromise.class));
+        when(queryCommandExecutor.next()).thenReturn(true, true, true, false);
+        QueryDataWriteProgress progress = new QueryDataWriteProgress(3, 2);
+        MySQLCommandExecuteEngine engine = new MySQLCommandExecuteEngine();
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        assertFalse(engine.writeQueryData(context, backendConnection, queryCommandExecutor, progress));
+        assertThat(progress.getQueryDataPackagesCount(), is(2));
+        assertTrue(engine.writeQueryData(context, backendConnection, queryCommandExecutor, progress));
+        assertThat(progress.getQueryDataPackagesCount(), is(3));
+        verify(context, times(3)).write(any(DatabasePacket.class), any(ChannelPromise.class));
+        verify(context, times(2)).flush();
+        ArgumentCaptor<MySQLEofPacket> eofPacket = ArgumentCaptor.forClass(MySQLEofPacket.class);
+        verify(context).write(eofPacket.capture());
+        assertThat(eofPacket.getValue().getSequenceId(), is(7));
+    }
+    
+    @Test
+    public void assertWriteQueryDataWithInactiveChannel() throws SQLException {
+        when(channel.isActive()).thenReturn(false);
+        assertTrue(new MySQLCommandExecuteEngine().writeQueryData(context, mock(BackendConnection.class), queryCommandExecutor, new QueryDataWriteProgress(3, 128)));
+    }
+    
+    @Test
+    public void assertIsExecutableInEventLoop() {
+        MySQLCommandExecuteEngine engine = new MySQLCommandExecuteEngine();
+        assertTrue(engine.isExecutableInEventLoop(createMessage(MySQLCommandPacketType.COM_PING, "")));
+        assertTrue(engine.isExecutableInEventLoop(createMessage(MySQLCommandPacketType.COM_QUERY, "sctl:show transaction_type")));
+        assertFalse(engine.isExecutableInEventLoop(createMessage(MySQLCommandPacketType.COM_QUERY, "SCTL:EXPLAIN SELECT 1")));
+        assertFalse(engine.isExecutableInEventLoop(createMessage(MySQLCommandPacketType.COM_QUERY, "SCTL:SET TRANSACTION_TYPE=XA")));
+        assertFalse(engine.isExecutableInEventLoop(createMessage(MySQLCommandPacketType.COM_QUERY, "SELECT 1")));
+        assertFalse(engine.isExecutableInEventLoop(createMessage(MySQLCommandPacketType.COM_INIT_DB, "sharding_db")));
+        assertFalse(engine.isExecutableInEventLoop(Unpooled.wrappedBuffer(new byte[] {0})));
+    }
+    
+    private ByteBuf createMessage(final MySQLCommandPacketType commandPacketType, final String sql) {
+        ByteBuf result = Unpooled.buffer();
+        result.writeByte(0);
+        result.writeByte(commandPacketType.getValue());
+        result.writeBytes(sql.getBytes());
+        return result;
+    }
+}
@@ -17,13 +17,13 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
-import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriteProgress;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
@@ -46,6 +46,11 @@ import java.sql.SQLException;
  */
 public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    @Override
+    public boolean isExecutableInEventLoop(final ByteBuf message) {
+        return false;
+    }
+    
     @Override
     public PostgreSQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return PostgreSQLCommandPacketTypeLoader.getCommandPacketType((PostgreSQLPacketPayload) payload);
@@ -67,29 +72,28 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+    public boolean writeQueryData(final ChannelHandlerContext context,
+                                  final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final QueryDataWriteProgress progress) throws SQLException {
         if (queryCommandExecutor.isQuery() && !context.channel().isActive()) {
             context.write(new PostgreSQLCommandCompletePacket());
             context.write(new PostgreSQLReadyForQueryPacket());
-            return;
+            return true;
         }
         int count = 0;
-        int proxyFrontendFlushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
+        while (context.channel().isWritable()) {
+            if (!queryCommandExecutor.next()) {
+                context.write(new PostgreSQLCommandCompletePacket());
+                context.write(new PostgreSQLReadyForQueryPacket());
+                return true;
             }
-            DatabasePacket resultValue = queryCommandExecutor.getQueryData();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == count) {
+            context.write(queryCommandExecutor.getQueryData(), context.voidPromise());
+            progress.increaseQueryDataPackagesCount();
+            if (progress.getFlushThreshold() == ++count) {
                 context.flush();
                 count = 0;
             }
         }
-        context.write(new PostgreSQLCommandCompletePacket());
-        context.write(new PostgreSQLReadyForQueryPacket());
+        context.flush();
+        return !context.channel().isActive();
     }
 }
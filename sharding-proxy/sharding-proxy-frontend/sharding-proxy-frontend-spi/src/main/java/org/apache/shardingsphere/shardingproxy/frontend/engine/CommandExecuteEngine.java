@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.engine;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
@@ -35,6 +36,18 @@ import java.sql.SQLException;
  */
 public interface CommandExecuteEngine {
     
+    /**
+     * Judge whether command can be executed in event loop or not.
+     *
+     * <p>
+     * Command which never blocks can be executed in event loop directly without handing off to command executor.
+     * </p>
+     *
+     * @param message message of command
+     * @return can be executed in event loop or not
+     */
+    boolean isExecutableInEventLoop(ByteBuf message);
+    
     /**
      * Get command packet type.
      *
@@ -75,11 +88,16 @@ public interface CommandExecuteEngine {
     /**
      * Write query data.
      *
+     * <p>
+     * Writing is suspended if channel is unwritable, and should be resumed with same progress when channel becomes writable.
+     * </p>
+     *
      * @param context channel handler context
      * @param backendConnection backend connection
      * @param queryCommandExecutor query command executor
-     * @param headerPackagesCount count of header packages
+     * @param progress progress of writing query data
+     * @return all query data are written or writing is suspended
      * @throws SQLException SQL exception
      */
-    void writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount) throws SQLException;
+    boolean writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, QueryDataWriteProgress progress) throws SQLException;
 }
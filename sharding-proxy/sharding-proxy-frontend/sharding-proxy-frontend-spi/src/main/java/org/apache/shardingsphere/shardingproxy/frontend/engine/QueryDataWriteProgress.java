@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.engine;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Progress of writing query data.
+ *
+ * <p>
+ * Writing query data is suspended when channel is unwritable, progress is kept to resume writing when channel becomes writable.
+ * Flush threshold is read from properties once for every query, instead of for every resumed writing.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class QueryDataWriteProgress {
+    
+    private final int headerPackagesCount;
+    
+    private final int flushThreshold;
+    
+    private int queryDataPackagesCount;
+    
+    /**
+     * Increase count of written query data packages.
+     */
+    public void increaseQueryDataPackagesCount() {
+        queryDataPackagesCount++;
+    }
+}
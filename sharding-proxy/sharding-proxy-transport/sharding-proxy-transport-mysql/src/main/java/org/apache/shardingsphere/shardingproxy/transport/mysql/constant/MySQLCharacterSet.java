@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.shardingproxy.transport.mysql.constant;
+
+import com.google.common.base.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.Charset;
+
+/**
+ * Character sets of connection for MySQL.
+ * 
+ * <p>
+ * Only common collations which can be mapped to Java charset are listed, others are regarded as unknown.
+ * </p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/character-set.html#packet-Protocol::CharacterSet">CharacterSet</a>
+ */
+@RequiredArgsConstructor
+@Getter
+public enum MySQLCharacterSet {
+    
+    LATIN1_SWEDISH_CI(0x08, Charset.forName("Cp1252")),
+    
+    GBK_CHINESE_CI(0x1c, Charset.forName("GBK")),
+    
+    UTF8_GENERAL_CI(0x21, Charset.forName("UTF-8")),
+    
+    UTF8MB4_GENERAL_CI(0x2d, Charset.forName("UTF-8")),
+    
+    UTF8MB4_BIN(0x2e, Charset.forName("UTF-8")),
+    
+    LATIN1_BIN(0x2f, Charset.forName("Cp1252")),
+    
+    UTF8_BIN(0x53, Charset.forName("UTF-8")),
+    
+    GBK_BIN(0x57, Charset.forName("GBK")),
+    
+    UTF8_UNICODE_CI(0xc0, Charset.forName("UTF-8")),
+    
+    UTF8MB4_UNICODE_CI(0xe0, Charset.forName("UTF-8")),
+    
+    UTF8MB4_0900_AI_CI(0xff, Charset.forName("UTF-8"));
+    
+    private final int value;
+    
+    private final Charset charset;
+    
+    /**
+     * Find character set.
+     * 
+     * @param value value of collation
+     * @return character set, absent if collation is unknown
+     */
+    public static Optional<MySQLCharacterSet> find(final int value) {
+        for (MySQLCharacterSet each : MySQLCharacterSet.values()) {
+            if (value == each.value) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.absent();
+    }
+}
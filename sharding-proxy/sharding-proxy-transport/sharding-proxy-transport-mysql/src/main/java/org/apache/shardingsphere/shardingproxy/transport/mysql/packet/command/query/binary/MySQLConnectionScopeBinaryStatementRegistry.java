@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MySQL connection scope binary prepared statement registry.
+ *
+ * <p>
+ * Statements are bounded by max count, least recently used statement is evicted if exceeded.
+ * </p>
+ */
+public final class MySQLConnectionScopeBinaryStatementRegistry {
+    
+    private final Cache<Integer, MySQLBinaryStatement> binaryStatements;
+    
+    private final AtomicInteger sequence = new AtomicInteger();
+    
+    public MySQLConnectionScopeBinaryStatementRegistry(final int maxStatements) {
+        binaryStatements = CacheBuilder.newBuilder().concurrencyLevel(1).maximumSize(maxStatements).build();
+    }
+    
+    /**
+     * Register SQL.
+     *
+     * @param sql SQL
+     * @param parametersCount parameters count
+     * @return statement ID
+     */
+    public int register(final String sql, final int parametersCount) {
+        int result = sequence.incrementAndGet();
+        binaryStatements.put(result, new MySQLBinaryStatement(sql, parametersCount));
+        return result;
+    }
+    
+    /**
+     * Get binary prepared statement.
+     *
+     * @param statementId statement ID
+     * @return binary prepared statement, {@code null} if not registered or evicted
+     */
+    public MySQLBinaryStatement getBinaryStatement(final int statementId) {
+        return binaryStatements.getIfPresent(statementId);
+    }
+    
+    /**
+     * Remove binary prepared statement.
+     *
+     * @param statementId statement ID
+     */
+    public void remove(final int statementId) {
+        binaryStatements.invalidate(statementId);
+    }
+}
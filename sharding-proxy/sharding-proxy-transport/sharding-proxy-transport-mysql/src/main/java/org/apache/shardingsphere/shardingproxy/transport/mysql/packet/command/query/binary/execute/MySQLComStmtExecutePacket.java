@@ -22,6 +22,7 @@ import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLColumnType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLNewParametersBoundFlag;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatement;
@@ -65,10 +66,14 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     @Getter
     private final List<Object> parameters;
     
-    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload) throws SQLException {
+    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload, final int connectionId) throws SQLException {
         super(MySQLCommandPacketType.COM_STMT_EXECUTE);
         statementId = payload.readInt4();
-        binaryStatement = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        binaryStatement = MySQLBinaryStatementRegistry.getInstance().get(connectionId).getBinaryStatement(statementId);
+        if (null == binaryStatement) {
+            MySQLServerErrorCode errorCode = MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER;
+            throw new SQLException(String.format(errorCode.getErrorMessage(), statementId, "mysqld_stmt_execute"), errorCode.getSqlState(), errorCode.getErrorCode());
+        }
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parametersCount = binaryStatement.getParametersCount();
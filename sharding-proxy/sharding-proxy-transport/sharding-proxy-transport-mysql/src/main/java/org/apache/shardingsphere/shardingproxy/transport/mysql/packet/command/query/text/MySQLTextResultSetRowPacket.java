@@ -39,6 +39,8 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final int TIMESTAMP_LENGTH = 19;
+    
     @Getter
     private final int sequenceId;
     
@@ -60,8 +62,10 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             } else {
                 if (each instanceof byte[]) {
                     payload.writeBytesLenenc((byte[]) each);
+                } else if (each instanceof Integer || each instanceof Long || each instanceof Short || each instanceof Byte) {
+                    payload.writeStringLenenc(((Number) each).longValue());
                 } else if (each instanceof Timestamp) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
+                    writeTimestamp(payload, (Timestamp) each);
                 } else if (each instanceof BigDecimal) {
                     payload.writeStringLenenc(((BigDecimal) each).toPlainString());
                 } else {
@@ -70,4 +74,36 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             }
         }
     }
+    
+    @SuppressWarnings("deprecation")
+    private void writeTimestamp(final MySQLPacketPayload payload, final Timestamp timestamp) {
+        int year = timestamp.getYear() + 1900;
+        if (year < 0 || year > 9999) {
+            String value = timestamp.toString();
+            payload.writeStringLenenc(value.substring(0, value.indexOf('.')));
+            return;
+        }
+        payload.writeInt1(TIMESTAMP_LENGTH);
+        writeDigits(payload, year, 4);
+        payload.writeInt1('-');
+        writeDigits(payload, timestamp.getMonth() + 1, 2);
+        payload.writeInt1('-');
+        writeDigits(payload, timestamp.getDate(), 2);
+        payload.writeInt1(' ');
+        writeDigits(payload, timestamp.getHours(), 2);
+        payload.writeInt1(':');
+        writeDigits(payload, timestamp.getMinutes(), 2);
+        payload.writeInt1(':');
+        writeDigits(payload, timestamp.getSeconds(), 2);
+    }
+    
+    private void writeDigits(final MySQLPacketPayload payload, final int value, final int digits) {
+        int divisor = 1;
+        for (int i = 1; i < digits; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            payload.writeInt1('0' + value / divisor % 10);
+        }
+    }
 }
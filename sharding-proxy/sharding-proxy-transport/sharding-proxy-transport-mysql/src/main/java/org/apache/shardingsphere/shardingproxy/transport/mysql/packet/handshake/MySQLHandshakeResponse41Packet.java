@@ -41,6 +41,7 @@ public final class MySQLHandshakeResponse41Packet implements MySQLPacket {
     
     private final int maxPacketSize;
     
+    @Getter
     private final int characterSet;
     
     @Getter
@@ -263,8 +263,39 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
-        writeIntLenenc(value.getBytes().length);
-        byteBuf.writeBytes(value.getBytes());
+        byte[] bytes = value.getBytes();
+        writeIntLenenc(bytes.length);
+        byteBuf.writeBytes(bytes);
+    }
+    
+    /**
+     * Write lenenc string of decimal integer to byte buffers without creating string.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/string.html#packet-Protocol::FixedLengthString">FixedLengthString</a>
+     *
+     * @param value decimal integer
+     */
+    public void writeStringLenenc(final long value) {
+        if (Long.MIN_VALUE == value) {
+            writeStringLenenc(String.valueOf(value));
+            return;
+        }
+        long absoluteValue = Math.abs(value);
+        long divisor = 1L;
+        int digits = 1;
+        while (absoluteValue / divisor >= 10L) {
+            divisor *= 10L;
+            digits++;
+        }
+        if (value < 0L) {
+            byteBuf.writeByte(digits + 1);
+            byteBuf.writeByte('-');
+        } else {
+            byteBuf.writeByte(digits);
+        }
+        for (; divisor > 0L; divisor /= 10L) {
+            byteBuf.writeByte('0' + (int) (absoluteValue / divisor % 10L));
+        }
     }
     
     /**
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.close;
 
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -36,21 +38,25 @@ public final class MySQLComStmtClosePacketTest {
     @Test
     public void assertNew() {
         when(payload.readInt4()).thenReturn(1);
-        MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload);
+        MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload, 1);
         assertThat(actual.getStatementId(), is(1));
     }
     
     @Test
     public void assertWrite() {
         when(payload.readInt4()).thenReturn(1);
-        MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload);
+        MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload, 1);
         actual.write(payload);
     }
     
     @Test
     public void assertRemoveCachedStatement() {
+        MySQLBinaryStatementRegistry.getInstance().register(1, 10);
+        MySQLBinaryStatementRegistry.getInstance().get(1).register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
-        MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload);
+        MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload, 1);
         actual.removeCachedStatement();
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1));
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
     }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -56,6 +58,21 @@ public final class MySQLTextResultSetRowPacketTest {
         verify(payload).writeInt1(0xfb);
         verify(payload).writeStringLenenc("value");
         verify(payload).writeStringLenenc("1");
-        verify(payload).writeStringLenenc((new Timestamp(now)).toString().split("\\.")[0]);
+    }
+    
+    @Test
+    public void assertWriteWithNumberAndTimestamp() {
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        timestamp.setNanos(123000000);
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLTextResultSetRowPacket(1, Arrays.<Object>asList(1, -2L, (short) 3, (byte) 4, timestamp)).write(new MySQLPacketPayload(actual));
+        ByteBuf expected = Unpooled.buffer();
+        MySQLPacketPayload expectedPayload = new MySQLPacketPayload(expected);
+        expectedPayload.writeStringLenenc("1");
+        expectedPayload.writeStringLenenc("-2");
+        expectedPayload.writeStringLenenc("3");
+        expectedPayload.writeStringLenenc("4");
+        expectedPayload.writeStringLenenc(timestamp.toString().split("\\.")[0]);
+        assertThat(actual, is(expected));
     }
 }